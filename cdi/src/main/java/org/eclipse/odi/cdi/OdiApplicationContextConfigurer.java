@@ -20,6 +20,7 @@ import io.micronaut.context.ApplicationContextConfigurer;
 import io.micronaut.context.BeanResolutionContext;
 import io.micronaut.context.BeanResolutionCustomizer;
 import io.micronaut.context.annotation.ContextConfigurer;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.reflect.ReflectionUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.BeanDefinition;
@@ -28,8 +29,10 @@ import jakarta.enterprise.context.NormalScope;
 import jakarta.enterprise.inject.TransientReference;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * ODI specific {@link ApplicationContextConfigurer}.
@@ -41,6 +44,13 @@ public final class OdiApplicationContextConfigurer implements ApplicationContext
         builder.allowEmptyProviders(true)
                 .customScopeRegistry(OdiCustomScopeRegistry::new)
                 .beanResolutionCustomizer(new BeanResolutionCustomizer() {
+                    private final ClassValue<AtomicReference<DecodedBeanTypes>> beanTypesByCandidateClass = new ClassValue<>() {
+                        @Override
+                        protected AtomicReference<DecodedBeanTypes> computeValue(Class<?> type) {
+                            return new AtomicReference<>();
+                        }
+                    };
+
                     @Override
                     public boolean shouldResolveArrayAsBean(Argument<?> injectionPoint) {
                         return true;
@@ -86,16 +96,47 @@ public final class OdiApplicationContextConfigurer implements ApplicationContext
                     public boolean isCandidateBean(Argument<?> beanType, QualifiedBeanType<?> candidate) {
                         Type requiredType = OdiTypeUtils.getRequiredType(beanType);
                         if (requiredType != null) {
-                            Set<Type> beanTypes = OdiTypeUtils.getBeanTypes(candidate.getAnnotationMetadata(), candidate.getBeanType());
+                            Set<Type> beanTypes = getBeanTypes(candidate);
                             if (!beanTypes.isEmpty()) {
                                 return OdiTypeUtils.matchesBeanType(requiredType, beanTypes);
                             }
                         }
                         return candidate.isCandidateBean(beanType);
                     }
+
+                    private Set<Type> getBeanTypes(QualifiedBeanType<?> candidate) {
+                        AnnotationMetadata annotationMetadata = candidate.getAnnotationMetadata();
+                        Class<?> beanType = candidate.getBeanType();
+                        // A generated bean definition class has a single metadata and bean type. Candidates of classes
+                        // shared by several definitions, like delegates, are decoded on each lookup
+                        AtomicReference<DecodedBeanTypes> decoded = beanTypesByCandidateClass.get(candidate.getClass());
+                        DecodedBeanTypes beanTypes = decoded.get();
+                        if (beanTypes == null) {
+                            decoded.compareAndSet(null, new DecodedBeanTypes(
+                                    annotationMetadata,
+                                    beanType,
+                                    Collections.unmodifiableSet(OdiTypeUtils.getBeanTypes(annotationMetadata, beanType))
+                            ));
+                            beanTypes = decoded.get();
+                        }
+                        if (beanTypes.annotationMetadata() == annotationMetadata && beanTypes.beanType() == beanType) {
+                            return beanTypes.types();
+                        }
+                        return OdiTypeUtils.getBeanTypes(annotationMetadata, beanType);
+                    }
                 });
     }
 
+    /**
+     * The bean types decoded from the metadata of a candidate.
+     *
+     * @param annotationMetadata The annotation metadata of the candidate
+     * @param beanType           The bean type of the candidate
+     * @param types              The decoded bean types
+     */
+    private record DecodedBeanTypes(AnnotationMetadata annotationMetadata, Class<?> beanType, Set<Type> types) {
+    }
+
     private static Object primitiveDefaultValue(Class<?> type) {
         return switch (type.getName()) {
             case "boolean" -> false;
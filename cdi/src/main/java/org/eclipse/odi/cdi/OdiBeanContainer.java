@@ -83,6 +83,35 @@ public interface OdiBeanContainer extends BeanContainer {
     <T> Collection<OdiBean<T>> getBeans(@NonNull Argument<T> argument,
                                         @Nullable io.micronaut.context.Qualifier<T> qualifier);
 
+    /**
+     * Registers a singleton bean. Beans registered after startup must go through the container, so that the cached
+     * resolution results are invalidated.
+     *
+     * @param type      The bean type
+     * @param singleton The bean instance
+     * @param qualifier The qualifier
+     * @param <T>       The bean type
+     */
+    <T> void registerSingleton(@NonNull Class<T> type,
+                               @NonNull T singleton,
+                               @Nullable io.micronaut.context.Qualifier<T> qualifier);
+
+    /**
+     * Registers a custom context, it becomes available to {@link #getContexts(Class)} and to the beans of its scope.
+     *
+     * @param context The context
+     */
+    void registerContext(@NonNull Context context);
+
+    /**
+     * Gets the registered contexts of a scope.
+     *
+     * @param scopeAnnotation The scope annotation name
+     * @return The contexts
+     */
+    @NonNull
+    Collection<Context> getContexts(@NonNull String scopeAnnotation);
+
     /**
      * @return Basic instance
      */
@@ -26,6 +26,7 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationMetadataProvider;
 import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.annotation.Order;
 import io.micronaut.core.order.Ordered;
 import io.micronaut.core.reflect.ReflectionUtils;
@@ -67,9 +68,11 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -78,17 +81,25 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 final class OdiBeanContainerImpl implements OdiBeanContainer {
     private static final String JAKARTA_INTERCEPTOR_BINDING = "jakarta.interceptor.InterceptorBinding";
     private static final String MICRONAUT_INTERCEPTOR_BINDING = "io.micronaut.aop.InterceptorBinding";
+    private static final List<Context> SINGLETON_CONTEXTS = List.of(SingletonContext.INSTANCE);
+    private static final int RESOLUTION_CACHE_SIZE = 1024;
 
     private final ApplicationContext applicationContext;
     private final OdiSeContainer container;
 
     private final OdiAnnotations odiAnnotations;
+    private volatile Map<ResolutionKey, List<BeanDefinition<?>>> resolutionCache = new ConcurrentHashMap<>();
+    private final Map<BeanDefinition<?>, OdiBeanImpl<?>> beans = new ConcurrentHashMap<>();
+    private final Map<MethodExecutionKey, MethodExecutionPlan<?, ?>> methodExecutionPlans = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<BeanDefinition<?>>> beanTypeIndex;
+    private volatile ScopeContexts scopeContexts;
     private OdiObserverMethodRegistry observerMethodRegistry;
     private Event<Object> objectEvent;
 
@@ -117,14 +128,30 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
                                                  boolean staticMethod) {
         Argument<?>[] arguments = executableMethod.getArguments();
         Object[] values = new Object[arguments.length];
+        boolean resolveArguments = false;
+        for (int i = 0; i < arguments.length; i++) {
+            Object value = valueSupplier.apply(arguments[i]);
+            if (value == null) {
+                resolveArguments = true;
+            }
+            values[i] = value;
+        }
+        if (!resolveArguments) {
+            DependentContext dependentContext = new DependentContext(null);
+            try {
+                return executeMethod(beanDefinition, executableMethod, values, dependentContext, staticMethod);
+            } finally {
+                dependentContext.destroy();
+            }
+        }
         try (BeanResolutionContext resolutionContext = new DefaultBeanResolutionContext(getBeanContext(), beanDefinition)) {
             DependentContext dependentContext = new DependentContext(resolutionContext);
-            for (int i = 0; i < arguments.length; i++) {
-                Argument<?> argument = arguments[i];
-                Object value = valueSupplier.apply(argument);
-                if (value != null) {
-                    values[i] = value;
-                } else {
+            try {
+                for (int i = 0; i < arguments.length; i++) {
+                    if (values[i] != null) {
+                        continue;
+                    }
+                    Argument<?> argument = arguments[i];
                     try (BeanResolutionContext.Path ignore = resolutionContext.getPath().pushMethodArgumentResolve(
                             beanDefinition,
                             executableMethod.getMethodName(),
@@ -141,48 +168,64 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
                         }
                     }
                 }
-            }
-            try {
-                if (!staticMethod) {
-                    OdiBean<B> bean = getBean(beanDefinition);
-                    Optional<MethodInvocation<B, R>> proxyInvocation = findProxyMethodInvocation(bean, executableMethod, dependentContext);
-                    if (proxyInvocation.isPresent()) {
-                        return proxyInvocation.get().invoke(values);
-                    }
-                    CreationalContext<B> creationalContext = createCreationalContext(bean);
-                    Context beanContext = odiAnnotations.isDependent(bean.getScope()) ? dependentContext : getContext(bean.getScope());
-                    B beanInstance = beanContext.get(bean, creationalContext);
-                    return executableMethod.invoke(beanInstance, values);
-                }
-                return executableMethod.invoke(null, values);
+                return executeMethod(beanDefinition, executableMethod, values, dependentContext, staticMethod);
             } finally {
                 dependentContext.destroy();
             }
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <B, R> Object executeMethod(BeanDefinition<B> beanDefinition,
+                                        ExecutableMethod<B, R> executableMethod,
+                                        Object[] values,
+                                        DependentContext dependentContext,
+                                        boolean staticMethod) {
+        if (staticMethod) {
+            return executableMethod.invoke(null, values);
+        }
+        MethodExecutionPlan<B, R> plan = (MethodExecutionPlan<B, R>) methodExecutionPlans.computeIfAbsent(
+                new MethodExecutionKey(beanDefinition, executableMethod),
+                key -> createMethodExecutionPlan(beanDefinition, executableMethod)
+        );
+        OdiBean<B> proxyBean = plan.proxyBean();
+        if (proxyBean != null) {
+            Context proxyContext = plan.proxyDependent() ? dependentContext : getContext(proxyBean.getScope());
+            B proxyInstance = proxyContext.get(proxyBean, createCreationalContext(proxyBean));
+            if (plan.invokeOnProxyTarget() && proxyInstance instanceof InterceptedProxy<?> interceptedProxy) {
+                return executableMethod.invoke((B) interceptedProxy.interceptedTarget(), values);
+            }
+            return plan.proxyMethod().invoke(proxyInstance, values);
+        }
+        OdiBean<B> bean = plan.bean();
+        Context beanContext = plan.dependent() ? dependentContext : getContext(bean.getScope());
+        B beanInstance = beanContext.get(bean, createCreationalContext(bean));
+        return executableMethod.invoke(beanInstance, values);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private <B, R> Optional<MethodInvocation<B, R>> findProxyMethodInvocation(OdiBean<B> bean,
-                                                                              ExecutableMethod<B, R> executableMethod,
-                                                                              DependentContext dependentContext) {
-        BeanDefinition<B> beanDefinition = bean.getBeanDefinition();
+    private <B, R> MethodExecutionPlan<B, R> createMethodExecutionPlan(BeanDefinition<B> beanDefinition,
+                                                                       ExecutableMethod<B, R> executableMethod) {
+        OdiBean<B> bean = getBean(beanDefinition);
+        boolean dependent = odiAnnotations.isDependent(bean.getScope());
         Optional<BeanDefinition<B>> proxyBeanDefinition = applicationContext.findProxyBeanDefinition(beanDefinition.asArgument(), beanDefinition.getDeclaredQualifier());
-        return proxyBeanDefinition
-                .map(proxyDefinition -> {
-                    OdiBean<B> proxyOdiBean = getBean(proxyDefinition);
-                    CreationalContext<B> proxyCreationalContext = createCreationalContext(proxyOdiBean);
-                    Context proxyContext = odiAnnotations.isDependent(proxyOdiBean.getScope()) ? dependentContext : getContext(proxyOdiBean.getScope());
-                    B proxyBean = proxyContext.get(proxyOdiBean, proxyCreationalContext);
-                    Optional<ExecutableMethod<B, R>> proxyMethod = (Optional) proxyDefinition.findMethod(
-                            executableMethod.getMethodName(),
-                            executableMethod.getArgumentTypes()
-                    );
-                    if (shouldInvokeObserverOnProxyTarget(beanDefinition, proxyDefinition, executableMethod)
-                            && proxyBean instanceof InterceptedProxy<?> interceptedProxy) {
-                        return new MethodInvocation<>((B) interceptedProxy.interceptedTarget(), executableMethod);
-                    }
-                    return new MethodInvocation<>(proxyBean, proxyMethod.orElse(executableMethod));
-                });
+        if (proxyBeanDefinition.isEmpty()) {
+            return new MethodExecutionPlan<>(bean, dependent, null, false, executableMethod, false);
+        }
+        BeanDefinition<B> proxyDefinition = proxyBeanDefinition.get();
+        OdiBean<B> proxyBean = getBean(proxyDefinition);
+        Optional<ExecutableMethod<B, R>> proxyMethod = (Optional) proxyDefinition.findMethod(
+                executableMethod.getMethodName(),
+                executableMethod.getArgumentTypes()
+        );
+        return new MethodExecutionPlan<>(
+                bean,
+                dependent,
+                proxyBean,
+                odiAnnotations.isDependent(proxyBean.getScope()),
+                proxyMethod.orElse(executableMethod),
+                shouldInvokeObserverOnProxyTarget(beanDefinition, proxyDefinition, executableMethod)
+        );
     }
 
     private boolean shouldInvokeObserverOnProxyTarget(BeanDefinition<?> beanDefinition,
@@ -208,15 +251,103 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
                         && !MICRONAUT_INTERCEPTOR_BINDING.equals(annotationName));
     }
 
-    private record MethodInvocation<B, R>(B bean, ExecutableMethod<B, R> executableMethod) {
-        Object invoke(Object[] values) {
-            return executableMethod.invoke(bean, values);
+    private record MethodExecutionKey(BeanDefinition<?> beanDefinition, ExecutableMethod<?, ?> executableMethod) {
+    }
+
+    /**
+     * The target of a method executed by the container, resolved once per bean definition and method.
+     *
+     * @param bean                The bean declaring the method
+     * @param dependent           Whether the bean is dependent
+     * @param proxyBean           The proxy bean or null if the bean is not proxied
+     * @param proxyDependent      Whether the proxy bean is dependent
+     * @param proxyMethod         The method to invoke on the proxy
+     * @param invokeOnProxyTarget Whether the method should be invoked on the proxy target
+     * @param <B>                 The bean type
+     * @param <R>                 The result type
+     */
+    private record MethodExecutionPlan<B, R>(OdiBean<B> bean,
+                                             boolean dependent,
+                                             @Nullable OdiBean<B> proxyBean,
+                                             boolean proxyDependent,
+                                             ExecutableMethod<B, R> proxyMethod,
+                                             boolean invokeOnProxyTarget) {
+    }
+
+    /**
+     * The registered contexts by scope annotation and by scope annotation name. A registered context is appended to a
+     * copy of the table.
+     *
+     * @param byScope     The contexts by scope annotation
+     * @param byScopeName The contexts by scope annotation name
+     */
+    private record ScopeContexts(Map<Class<? extends Annotation>, List<Context>> byScope,
+                                 Map<String, List<Context>> byScopeName) {
+
+        static final ScopeContexts EMPTY = new ScopeContexts(Map.of(), Map.of());
+
+        ScopeContexts with(Context context) {
+            Class<? extends Annotation> scope = context.getScope();
+            Map<Class<? extends Annotation>, List<Context>> newByScope = new HashMap<>(byScope);
+            newByScope.put(scope, append(byScope.get(scope), context));
+            Map<String, List<Context>> newByScopeName = new HashMap<>(byScopeName);
+            newByScopeName.put(scope.getName(), append(byScopeName.get(scope.getName()), context));
+            return new ScopeContexts(newByScope, newByScopeName);
+        }
+
+        private static List<Context> append(@Nullable List<Context> contexts, Context context) {
+            if (contexts == null) {
+                return List.of(context);
+            }
+            if (contexts.contains(context)) {
+                return contexts;
+            }
+            List<Context> appended = new ArrayList<>(contexts.size() + 1);
+            appended.addAll(contexts);
+            appended.add(context);
+            return List.copyOf(appended);
+        }
+    }
+
+    /**
+     * The typesafe resolution cache key. Arguments are compared by type only, the argument name is ignored.
+     */
+    private static final class ResolutionKey {
+        private final Argument<?> argument;
+        private final io.micronaut.context.Qualifier<?> qualifier;
+        private final int hashCode;
+
+        private ResolutionKey(Argument<?> argument, io.micronaut.context.Qualifier<?> qualifier) {
+            this.argument = argument;
+            this.qualifier = qualifier;
+            this.hashCode = 31 * argument.typeHashCode() + qualifier.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ResolutionKey)) {
+                return false;
+            }
+            ResolutionKey that = (ResolutionKey) o;
+            return argument.equalsType(that.argument) && qualifier.equals(that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> OdiBeanImpl<T> getBean(BeanDefinition<T> beanDefinition) {
-        return new OdiBeanImpl<>(applicationContext, beanDefinition);
+        return (OdiBeanImpl<T>) beans.computeIfAbsent(
+                Objects.requireNonNull(beanDefinition, "Bean definition cannot be null"),
+                definition -> new OdiBeanImpl<>(applicationContext, definition)
+        );
     }
 
     @Override
@@ -228,21 +359,65 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
         if (beanDefinitions.size() > 1) {
             throw new AmbiguousResolutionException("Multiple beans found for argument: " + argument + " and qualifier: " + qualifier);
         }
-        return new OdiBeanImpl<>(applicationContext, beanDefinitions.iterator().next());
+        return getBean(beanDefinitions.iterator().next());
     }
 
     @Override
     public <T> Collection<OdiBean<T>> getBeans(Argument<T> argument, io.micronaut.context.Qualifier<T> qualifier) {
         return getBeanDefinitions(argument, qualifier).stream()
-                .map(bd -> new OdiBeanImpl<>(applicationContext, bd))
+                .<OdiBean<T>>map(this::getBean)
                 .collect(Collectors.toUnmodifiableList());
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public <T> Collection<BeanDefinition<T>> getBeanDefinitions(Argument<T> argument, io.micronaut.context.Qualifier<T> qualifier) {
         if (qualifier == null) {
             qualifier = DefaultQualifier.instance();
         }
+        Map<ResolutionKey, List<BeanDefinition<?>>> cache = resolutionCache;
+        ResolutionKey key = new ResolutionKey(argument, qualifier);
+        List<BeanDefinition<?>> beanDefinitions = cache.get(key);
+        if (beanDefinitions == null) {
+            beanDefinitions = List.copyOf(lookupBeanDefinitions(argument, qualifier));
+            // Qualifiers of dynamic lookups are not bounded, once the cache is full they are resolved every time
+            if (cache.size() < RESOLUTION_CACHE_SIZE) {
+                List<BeanDefinition<?>> existing = cache.putIfAbsent(key, beanDefinitions);
+                if (existing != null) {
+                    beanDefinitions = existing;
+                }
+            }
+        }
+        return (Collection) beanDefinitions;
+    }
+
+    @Override
+    public <T> void registerSingleton(Class<T> type, T singleton, @Nullable io.micronaut.context.Qualifier<T> qualifier) {
+        applicationContext.registerSingleton(type, singleton, qualifier);
+        invalidateResolutions();
+    }
+
+    /**
+     * Drops the typesafe resolution results and the bean type index after the bean definitions changed. A lookup that
+     * is still running fills the replaced cache, so that its result is never seen.
+     */
+    private synchronized void invalidateResolutions() {
+        resolutionCache = new ConcurrentHashMap<>();
+        beanTypeIndex = null;
+    }
+
+    /**
+     * Clears the cached typesafe resolution results, the bean type index, the scope contexts, the method execution plans
+     * and the canonical bean instances.
+     */
+    void clearCaches() {
+        invalidateResolutions();
+        scopeContexts = null;
+        methodExecutionPlans.clear();
+        beans.clear();
+    }
+
+    private <T> Collection<BeanDefinition<T>> lookupBeanDefinitions(Argument<T> argument, io.micronaut.context.Qualifier<T> qualifier) {
         Collection<BeanDefinition<T>> beanDefinitions = findBeanDefinitions(argument, qualifier);
         Class<?> primitiveType = ReflectionUtils.getPrimitiveType(argument.getType());
         Class<?> wrapperType = argument.getWrapperType();
@@ -388,11 +563,46 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
         if (objectQualifier == null) {
             objectQualifier = (io.micronaut.context.Qualifier<Object>) DefaultQualifier.instance();
         }
-        return objectQualifier.filterQualified(Object.class, applicationContext.getAllBeanDefinitions()).stream()
-                .map(bd -> new OdiBeanImpl<>(applicationContext, bd))
+        return objectQualifier.filterQualified(Object.class, getBeanDefinitionsForRawType(beanType)).stream()
+                .map(this::getBean)
                 .collect(Collectors.toList());
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<BeanDefinition<Object>> getBeanDefinitionsForRawType(Type beanType) {
+        Class<?> requiredRawType = rawType(beanType);
+        if (requiredRawType == null) {
+            return applicationContext.getAllBeanDefinitions();
+        }
+        Map<Class<?>, List<BeanDefinition<?>>> index = beanTypeIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = beanTypeIndex;
+                if (index == null) {
+                    index = buildBeanTypeIndex();
+                    beanTypeIndex = index;
+                }
+            }
+        }
+        return (Collection) index.getOrDefault(ReflectionUtils.getWrapperType(requiredRawType), List.of());
+    }
+
+    private Map<Class<?>, List<BeanDefinition<?>>> buildBeanTypeIndex() {
+        Map<Class<?>, Set<BeanDefinition<?>>> candidates = new LinkedHashMap<>();
+        for (BeanDefinition<?> beanDefinition : applicationContext.getAllBeanDefinitions()) {
+            for (Type type : getBean(beanDefinition).getTypes()) {
+                Class<?> beanRawType = isLegalBeanType(type) ? rawType(type) : null;
+                if (beanRawType != null) {
+                    candidates.computeIfAbsent(ReflectionUtils.getWrapperType(beanRawType), key -> new LinkedHashSet<>())
+                            .add(beanDefinition);
+                }
+            }
+        }
+        Map<Class<?>, List<BeanDefinition<?>>> index = new HashMap<>(candidates.size());
+        candidates.forEach((type, beanDefinitions) -> index.put(type, List.copyOf(beanDefinitions)));
+        return index;
+    }
+
     @Override
     public Set<Bean<?>> getBeans(String name) {
         String beanName = Objects.requireNonNull(name, "Name cannot be null");
@@ -555,17 +765,19 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
 
     @Override
     public Context getContext(Class<? extends Annotation> scopeType) {
-        Collection<Context> contexts = getContexts(scopeType);
-        List<Context> activeContexts = contexts.stream()
-                .filter(Context::isActive)
-                .collect(Collectors.toList());
-        if (activeContexts.isEmpty()) {
+        Context activeContext = null;
+        for (Context context : getContexts(scopeType)) {
+            if (context.isActive()) {
+                if (activeContext != null) {
+                    throw new IllegalArgumentException("More than one active context for scope: " + scopeType.getSimpleName());
+                }
+                activeContext = context;
+            }
+        }
+        if (activeContext == null) {
             throw new ContextNotActiveException("No context active for scope: " + scopeType.getSimpleName());
-        } else if (activeContexts.size() > 1) {
-            throw new IllegalArgumentException("More than one active context for scope: " + scopeType.getSimpleName());
-        } else {
-            return activeContexts.iterator().next();
         }
+        return activeContext;
     }
 
     @Override
@@ -574,12 +786,44 @@ final class OdiBeanContainerImpl implements OdiBeanContainer {
             return Collections.singletonList(new DependentContext(null));
         }
         if (scopeType == Singleton.class) {
-            return Collections.singletonList(SingletonContext.INSTANCE);
+            return SINGLETON_CONTEXTS;
         }
-        final List<Context> contexts = applicationContext.streamOfType(Context.class)
-                .filter(c -> c.getScope() == scopeType)
-                .collect(Collectors.toList());
-        return Collections.unmodifiableList(contexts);
+        return getScopeContexts().byScope().getOrDefault(scopeType, List.of());
+    }
+
+    @Override
+    public Collection<Context> getContexts(String scopeAnnotation) {
+        return getScopeContexts().byScopeName().getOrDefault(scopeAnnotation, List.of());
+    }
+
+    @Override
+    public void registerContext(Context context) {
+        Objects.requireNonNull(context, "Context cannot be null");
+        synchronized (this) {
+            registerSingleton(Context.class, context, null);
+            ScopeContexts contexts = scopeContexts;
+            if (contexts != null) {
+                // Otherwise the context is found with the other context beans once the table is built
+                scopeContexts = contexts.with(context);
+            }
+        }
+    }
+
+    private ScopeContexts getScopeContexts() {
+        ScopeContexts contexts = scopeContexts;
+        if (contexts == null) {
+            synchronized (this) {
+                contexts = scopeContexts;
+                if (contexts == null) {
+                    contexts = ScopeContexts.EMPTY;
+                    for (Context context : applicationContext.getBeansOfType(Context.class)) {
+                        contexts = contexts.with(context);
+                    }
+                    scopeContexts = contexts;
+                }
+            }
+        }
+        return contexts;
     }
 
     @Override
@@ -17,10 +17,13 @@ package org.eclipse.odi.cdi;
 
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.exceptions.BeanCreationException;
 import io.micronaut.context.exceptions.BeanInstantiationException;
 import io.micronaut.context.exceptions.DependencyInjectionException;
 import io.micronaut.context.exceptions.NoSuchBeanException;
 import io.micronaut.context.exceptions.NonUniqueBeanException;
+import io.micronaut.context.scope.BeanCreationContext;
+import io.micronaut.context.scope.CreatedBean;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.annotation.Internal;
@@ -55,6 +58,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -74,6 +78,13 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
     private final BeanDefinition<T> definition;
     private final BeanContext beanContext;
     private Class<? extends Annotation> scope;
+    private volatile Set<Type> types;
+    private volatile Set<Annotation> qualifiers;
+    private volatile Set<InjectionPoint> injectionPoints;
+    private volatile Integer priority;
+    private volatile Object identityKey;
+    private volatile OdiBean<T> proxyTargetBean;
+    private int hashCode;
 
     /**
      * Default constructor.
@@ -98,11 +109,16 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public OdiBean<T> getProxyTargetBean() {
-        BeanDefinition<T> targetBeanDefinition = beanContext.getProxyTargetBeanDefinition(
-                ((ProxyBeanDefinition) definition).getTargetType(),
-                definition.getDeclaredQualifier()
-        );
-        return new OdiBeanImpl<>(beanContext, targetBeanDefinition);
+        OdiBean<T> proxyTargetBean = this.proxyTargetBean;
+        if (proxyTargetBean == null) {
+            BeanDefinition<T> targetBeanDefinition = beanContext.getProxyTargetBeanDefinition(
+                    ((ProxyBeanDefinition) definition).getTargetType(),
+                    definition.getDeclaredQualifier()
+            );
+            proxyTargetBean = beanContext.getBean(OdiBeanContainer.class).getBean(targetBeanDefinition);
+            this.proxyTargetBean = proxyTargetBean;
+        }
+        return proxyTargetBean;
     }
 
     @Override
@@ -117,6 +133,15 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public Set<InjectionPoint> getInjectionPoints() {
+        Set<InjectionPoint> injectionPoints = this.injectionPoints;
+        if (injectionPoints == null) {
+            injectionPoints = Collections.unmodifiableSet(resolveInjectionPoints());
+            this.injectionPoints = injectionPoints;
+        }
+        return injectionPoints;
+    }
+
+    private Set<InjectionPoint> resolveInjectionPoints() {
         BeanDefinition<?> injectionPointDefinition = getInjectionPointDefinition();
         @SuppressWarnings("rawtypes")
         Stream<? extends io.micronaut.inject.InjectionPoint> injectionPoints =
@@ -152,6 +177,10 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public T create(CreationalContext<T> creationalContext) {
+        if (creationalContext instanceof OdiCreationalContext<T> odiCreationalContext
+                && odiCreationalContext.getBeanCreationContext() != null) {
+            return createInScope(odiCreationalContext.getBeanCreationContext(), odiCreationalContext);
+        }
         BeanDefinition<T> creationDefinition = getCreationDefinition();
         try {
             BeanRegistration<T> beanRegistration = beanContext.getBeanRegistration(creationDefinition);
@@ -203,6 +232,19 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
         }
     }
 
+    private T createInScope(BeanCreationContext<T> beanCreationContext, OdiCreationalContext<T> creationalContext) {
+        try {
+            CreatedBean<T> createdBean = beanCreationContext.create();
+            creationalContext.setCreatedBean(createdBean);
+            return createdBean.bean();
+        } catch (BeanCreationException e) {
+            if (isNullProducerResult(beanCreationContext.definition(), e)) {
+                throw new IllegalProductException(e.getMessage(), e);
+            }
+            throw new CreationException(e.getMessage(), e);
+        }
+    }
+
     private BeanDefinition<T> getCreationDefinition() {
         if (definition instanceof ProxyBeanDefinition && definition.hasAnnotation(Produces.class)) {
             return beanContext.getProxyTargetBeanDefinition(
@@ -230,14 +272,34 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public void destroy(T instance, CreationalContext<T> creationalContext) {
-        if (!(creationalContext instanceof OdiCreationalContext)) {
+        if (!(creationalContext instanceof OdiCreationalContext<T> odiCreationalContext)) {
             throw new IllegalArgumentException("Not an ODI Creational Context");
         }
+        if (odiCreationalContext.getBeanCreationContext() != null) {
+            CreatedBean<T> createdBean = odiCreationalContext.getCreatedBean();
+            if (createdBean != null) {
+                try {
+                    createdBean.close();
+                } catch (BeanCreationException e) {
+                    throw new CreationException(e.getMessage(), e);
+                }
+            }
+            return;
+        }
         creationalContext.release();
     }
 
     @Override
     public Set<Type> getTypes() {
+        Set<Type> types = this.types;
+        if (types == null) {
+            types = Collections.unmodifiableSet(resolveTypes());
+            this.types = types;
+        }
+        return types;
+    }
+
+    private Set<Type> resolveTypes() {
         Set<Type> types = new LinkedHashSet<>();
         if (definition.getBeanType().isArray()) {
             types.add(definition.getBeanType());
@@ -422,6 +484,15 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public Set<Annotation> getQualifiers() {
+        Set<Annotation> qualifiers = this.qualifiers;
+        if (qualifiers == null) {
+            qualifiers = Collections.unmodifiableSet(resolveQualifiers());
+            this.qualifiers = qualifiers;
+        }
+        return qualifiers;
+    }
+
+    private Set<Annotation> resolveQualifiers() {
         Set<Annotation> annotations = AnnotationUtils.synthesizeQualifierAnnotations(definition.getAnnotationMetadata(), beanContext.getClassLoader());
         if (isNamedByStereotype()) {
             annotations.removeIf(Named.class::isInstance);
@@ -465,6 +536,15 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public int getPriority() {
+        Integer priority = this.priority;
+        if (priority == null) {
+            priority = resolvePriority();
+            this.priority = priority;
+        }
+        return priority;
+    }
+
+    private int resolvePriority() {
         int priority = definition.intValue(Priority.class).orElse(0);
         if (priority != 0) {
             return priority;
@@ -481,10 +561,24 @@ public class OdiBeanImpl<T> implements OdiBean<T>, Prioritized {
 
     @Override
     public int hashCode() {
-        return Objects.hash(identityKey(), definition.getDeclaredQualifier());
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = Objects.hash(identityKey(), definition.getDeclaredQualifier());
+            this.hashCode = hashCode;
+        }
+        return hashCode;
     }
 
     private Object identityKey() {
+        Object identityKey = this.identityKey;
+        if (identityKey == null) {
+            identityKey = resolveIdentityKey();
+            this.identityKey = identityKey;
+        }
+        return identityKey;
+    }
+
+    private Object resolveIdentityKey() {
         if (usesDefinitionClassIdentity()) {
             return definition.getClass();
         }
@@ -17,8 +17,10 @@ package org.eclipse.odi.cdi;
 
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
+import io.micronaut.context.scope.BeanCreationContext;
 import io.micronaut.context.scope.CreatedBean;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.enterprise.context.spi.Contextual;
 import jakarta.enterprise.context.spi.CreationalContext;
 
@@ -31,12 +33,26 @@ public final class OdiCreationalContext<T> implements CreationalContext<T> {
 
     private final BeanContext beanContext;
     private final Contextual<T> contextual;
+    @Nullable
+    private final BeanCreationContext<T> beanCreationContext;
     private CreatedBean<T> createdBean;
     private T instance;
 
     OdiCreationalContext(BeanContext beanContext, Contextual<T> contextual) {
+        this(beanContext, contextual, null);
+    }
+
+    /**
+     * Creational context of a bean created by a Micronaut custom scope backed by a CDI context.
+     *
+     * @param beanContext         The bean context
+     * @param contextual          The contextual
+     * @param beanCreationContext The creation context of the custom scope
+     */
+    OdiCreationalContext(BeanContext beanContext, Contextual<T> contextual, @Nullable BeanCreationContext<T> beanCreationContext) {
         this.beanContext = beanContext;
         this.contextual = contextual;
+        this.beanCreationContext = beanCreationContext;
     }
 
     @Override
@@ -63,6 +79,11 @@ public final class OdiCreationalContext<T> implements CreationalContext<T> {
         }
     }
 
+    @Nullable
+    BeanCreationContext<T> getBeanCreationContext() {
+        return beanCreationContext;
+    }
+
     public CreatedBean<T> getCreatedBean() {
         return createdBean;
     }
@@ -17,9 +17,7 @@ package org.eclipse.odi.cdi;
 
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
-import io.micronaut.context.exceptions.BeanCreationException;
 import io.micronaut.context.scope.BeanCreationContext;
-import io.micronaut.context.scope.CreatedBean;
 import io.micronaut.context.scope.CustomScope;
 import io.micronaut.context.scope.CustomScopeRegistry;
 import io.micronaut.core.annotation.NonNull;
@@ -30,25 +28,20 @@ import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.context.spi.AlterableContext;
 import jakarta.enterprise.context.spi.Context;
 import jakarta.enterprise.context.spi.Contextual;
-import jakarta.enterprise.context.spi.CreationalContext;
-import jakarta.enterprise.inject.CreationException;
-import jakarta.enterprise.inject.IllegalProductException;
 import jakarta.inject.Singleton;
 
 import java.lang.annotation.Annotation;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * Overrides the default custom scope registry to support CDI {@link jakarta.enterprise.context.spi.Context} concept.
  */
 final class OdiCustomScopeRegistry implements CustomScopeRegistry {
     private final BeanContext beanContext;
-    private volatile Map<String, List<Context>> contextMap = null;
     private volatile Map<Context, CustomScope<?>> scopesMap = new ConcurrentHashMap<>();
     private OdiBeanContainer beanContainer;
 
@@ -74,23 +67,14 @@ final class OdiCustomScopeRegistry implements CustomScopeRegistry {
 
     @Override
     public Optional<CustomScope<?>> findScope(String scopeAnnotation) {
-        if (this.contextMap == null) {
-            synchronized (this) {
-                if (this.contextMap == null) {
-                    this.contextMap = beanContext.streamOfType(Context.class).collect(Collectors.groupingBy(
-                            context -> context.getScope().getName()
-                    ));
-                }
-            }
-        }
-        List<Context> contexts = contextMap.get(scopeAnnotation);
-        if (contexts == null || contexts.isEmpty()) {
+        Collection<Context> contexts = getBeanContainer().getContexts(scopeAnnotation);
+        if (contexts.isEmpty()) {
             return Optional.empty();
         }
         Context context = contexts.stream()
                 .filter(Context::isActive)
                 .findFirst()
-                .orElse(contexts.get(0));
+                .orElseGet(() -> contexts.iterator().next());
         return Optional.of(context)
                 .map(ctx -> scopesMap.computeIfAbsent(ctx, OdiCustomScope::new));
     }
@@ -100,45 +84,6 @@ final class OdiCustomScopeRegistry implements CustomScopeRegistry {
         return findScope(Objects.requireNonNull(scopeAnnotation, "Scope annotation cannot be null").getName());
     }
 
-    private <T> Contextual<T> createContextual(BeanContext beanContext, BeanCreationContext<T> creationContext) {
-        return new OdiBeanImpl<>(beanContext, creationContext.definition()) {
-            @Override
-            public T create(CreationalContext<T> creationalContext) {
-                if (creationalContext instanceof OdiCreationalContext) {
-                    try {
-                        final CreatedBean<T> createdBean = creationContext.create();
-                        ((OdiCreationalContext<T>) creationalContext).setCreatedBean(createdBean);
-                        return createdBean.bean();
-                    } catch (BeanCreationException e) {
-                        if (OdiBeanImpl.isNullProducerResult(creationContext.definition(), e)) {
-                            throw new IllegalProductException(e.getMessage(), e);
-                        }
-                        throw new CreationException(e.getMessage(), e);
-                    }
-                } else {
-                    throw new CreationException("Not an ODI creational context");
-                }
-            }
-
-            @Override
-            public void destroy(T instance, CreationalContext<T> creationalContext) {
-                if (creationalContext instanceof OdiCreationalContext) {
-                    try {
-                        CreatedBean<T> cb =
-                                ((OdiCreationalContext<T>) creationalContext).getCreatedBean();
-                        if (cb != null) {
-                            cb.close();
-                        }
-                    } catch (BeanCreationException e) {
-                        throw new CreationException(e.getMessage(), e);
-                    }
-                } else {
-                    throw new CreationException("Not an ODI creational context");
-                }
-            }
-        };
-    }
-
     final class OdiCustomScope<A extends Annotation> implements CustomScope<A> {
         private final Context context;
         private final Map<BeanIdentifier, Contextual<?>> createdContextuals = new ConcurrentHashMap<>();
@@ -162,8 +107,8 @@ final class OdiCustomScopeRegistry implements CustomScopeRegistry {
             } else {
                 createdContextuals.put(creationContext.id(), contextual);
                 return context.get(
-                        createContextual(beanContext, creationContext),
-                        new OdiCreationalContext<>(beanContext, contextual)
+                        contextual,
+                        new OdiCreationalContext<>(beanContext, contextual, creationContext)
                 );
 
             }
@@ -68,7 +68,7 @@ public class OdiInstanceFactory {
             if (injectionPoint != null) {
                 cdiInjectionPoint = new OdiInjectionPoint(
                         resolutionContext.getContext().getClassLoader(),
-                        new OdiBeanImpl<>(beanContainer.getBeanContext(), injectionPoint.getDeclaringBean()),
+                        beanContainer.getBean(injectionPoint.getDeclaringBean()),
                         injectionPoint,
                         injectArgument
                 );
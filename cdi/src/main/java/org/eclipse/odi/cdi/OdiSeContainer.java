@@ -56,6 +56,18 @@ final class OdiSeContainer extends CDI<Object>
         implements SeContainer, OdiInstance<Object>, ApplicationContextProvider {
     private static final Map<ApplicationContext, OdiSeContainer> RUNNING_CONTAINERS = new LinkedHashMap<>(5);
     private static final ReentrantReadWriteLock RUNNING_CONTAINERS_LOCK = new ReentrantReadWriteLock();
+    private static final BeanDefinition CONTAINER_DEFINITION = new BeanDefinition() {
+
+        @Override
+        public boolean isEnabled(BeanContext context, BeanResolutionContext resolutionContext) {
+            return true;
+        }
+
+        @Override
+        public Class getBeanType() {
+            return SeContainer.class;
+        }
+    };
     private final ApplicationContext applicationContext;
     private final OdiBeanContainerImpl beanContainer;
 
@@ -71,6 +83,7 @@ final class OdiSeContainer extends CDI<Object>
         try {
             applicationContext.close();
         } finally {
+            beanContainer.clearCaches();
             unregister(applicationContext);
         }
     }
@@ -200,18 +213,7 @@ final class OdiSeContainer extends CDI<Object>
 
             @Override
             public jakarta.enterprise.inject.spi.Bean<Object> getBean() {
-                return new OdiBeanImpl(OdiSeContainer.this.applicationContext, new BeanDefinition() {
-
-                    @Override
-                    public boolean isEnabled(BeanContext context, BeanResolutionContext resolutionContext) {
-                        return true;
-                    }
-
-                    @Override
-                    public Class getBeanType() {
-                        return SeContainer.class;
-                    }
-                });
+                return beanContainer.getBean(CONTAINER_DEFINITION);
             }
 
             @Override
@@ -24,46 +24,61 @@ import jakarta.enterprise.context.spi.CreationalContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Simple {@link AlterableContext} context.
+ * Simple {@link AlterableContext} context. Contextual instances are created at most once per storage, concurrent
+ * callers requesting the same contextual wait only for the creation of that contextual.
  */
 @Internal
 public abstract class AbstractContext implements AlterableContext {
 
-    private final Map<Contextual<?>, Entry> storage = new ConcurrentHashMap<>();
-    private volatile boolean active;
+    private final ContextStorage sharedStorage;
 
     protected AbstractContext() {
         this(true);
     }
 
     protected AbstractContext(boolean active) {
-        this.active = active;
+        this.sharedStorage = new ContextStorage(active);
     }
 
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
-        chechIfActive();
+        ContextStorage storage = activeStorage();
         contextual = unwrapProxy(contextual);
-        T instance = get(contextual);
-        if (instance == null) {
-            instance = contextual.create(creationalContext);
-            storage.put(contextual, new Entry<>(creationalContext, instance));
+        T instance = storage.get(contextual);
+        if (instance != null) {
+            return instance;
+        }
+        // The lock stays mapped while any thread holds or waits for it, so a failed creation cannot let a new
+        // thread create the same contextual with a different lock
+        CreationLock lock = storage.creationLocks.compute(contextual, (key, existing) -> {
+            CreationLock creationLock = existing == null ? new CreationLock() : existing;
+            creationLock.users++;
+            return creationLock;
+        });
+        try {
+            lock.lock();
+            try {
+                instance = storage.get(contextual);
+                if (instance == null) {
+                    instance = contextual.create(creationalContext);
+                    storage.entries.put(contextual, new Entry<>(creationalContext, instance));
+                }
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            storage.creationLocks.computeIfPresent(contextual, (key, existing) -> --existing.users == 0 ? null : existing);
         }
         return instance;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T get(Contextual<T> contextual) {
-        chechIfActive();
-        contextual = unwrapProxy(contextual);
-        Entry<T> entry = storage.get(contextual);
-        if (entry != null) {
-            return entry.instance;
-        }
-        return null;
+        ContextStorage storage = activeStorage();
+        return storage.get(unwrapProxy(contextual));
     }
 
     private <T> Contextual<T> unwrapProxy(Contextual<T> contextual) {
@@ -76,22 +91,55 @@ public abstract class AbstractContext implements AlterableContext {
         return contextual;
     }
 
-    private void chechIfActive() {
-        if (!active) {
+    private ContextStorage activeStorage() {
+        ContextStorage storage = currentStorage();
+        if (storage == null || !storage.active) {
             throw new ContextNotActiveException("Context not active!");
         }
+        return storage;
+    }
+
+    /**
+     * Resolves the storage visible to the caller.
+     *
+     * @return The storage or null if there is none
+     */
+    ContextStorage currentStorage() {
+        return sharedStorage;
+    }
+
+    /**
+     * Resolves the storage visible to the caller, binding a new one if there is none.
+     *
+     * @return The storage
+     */
+    ContextStorage bindStorage() {
+        return sharedStorage;
+    }
+
+    /**
+     * Releases the storage after it has been destroyed or deactivated.
+     *
+     * @param storage The storage
+     */
+    void unbindStorage(ContextStorage storage) {
     }
 
     @Override
     public boolean isActive() {
-        return active;
+        ContextStorage storage = currentStorage();
+        return storage != null && storage.active;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void destroy(Contextual<?> contextual) {
+        ContextStorage storage = currentStorage();
+        if (storage == null) {
+            return;
+        }
         contextual = unwrapProxy(contextual);
-        Entry entry = storage.remove(contextual);
+        Entry entry = storage.entries.remove(contextual);
         if (entry != null) {
             @SuppressWarnings("rawtypes")
             Contextual rawContextual = contextual;
@@ -103,23 +151,70 @@ public abstract class AbstractContext implements AlterableContext {
      * Destroy the context.
      */
     public void destroy() {
-        storage.values().forEach(e -> e.creationalContext.release());
-        storage.clear();
-        active = false;
+        ContextStorage storage = currentStorage();
+        if (storage != null) {
+            release(storage);
+            storage.active = false;
+            unbindStorage(storage);
+        }
     }
 
     /**
-     * Deactivate the context.
+     * Deactivate the context. The shared storage keeps its instances until the context is destroyed, a storage bound
+     * to the caller cannot be reached once it is unbound, so its instances are destroyed first.
      */
     public void deactivate() {
-        active = false;
+        ContextStorage storage = currentStorage();
+        if (storage != null) {
+            storage.active = false;
+            if (storage != sharedStorage) {
+                release(storage);
+                unbindStorage(storage);
+            }
+        }
+    }
+
+    private static void release(ContextStorage storage) {
+        storage.entries.values().forEach(e -> e.creationalContext.release());
+        storage.entries.clear();
     }
 
     /**
      * Activate the context.
      */
     public void activate() {
-        active = true;
+        bindStorage().active = true;
+    }
+
+    /**
+     * The contextual instances and the activation state of a context.
+     */
+    static final class ContextStorage {
+        private final Map<Contextual<?>, Entry<?>> entries = new ConcurrentHashMap<>();
+        private final Map<Contextual<?>, CreationLock> creationLocks = new ConcurrentHashMap<>();
+        private volatile boolean active;
+
+        ContextStorage(boolean active) {
+            this.active = active;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T get(Contextual<T> contextual) {
+            Entry<T> entry = (Entry<T>) entries.get(contextual);
+            if (entry != null) {
+                return entry.instance;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The creation lock of a contextual, counting the threads that hold or wait for it. The count is only
+     * modified inside the atomic map operations of {@link ContextStorage#creationLocks}.
+     */
+    @SuppressWarnings("serial")
+    private static final class CreationLock extends ReentrantLock {
+        private int users;
     }
 
     private static final class Entry<T> {
@@ -17,30 +17,30 @@ package org.eclipse.odi.cdi.context;
 
 import io.micronaut.context.BeanProvider;
 import io.micronaut.core.annotation.Internal;
-import jakarta.enterprise.context.BeforeDestroyed;
 import jakarta.enterprise.context.ContextNotActiveException;
-import jakarta.enterprise.context.Destroyed;
-import jakarta.enterprise.context.Initialized;
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Singleton;
-import org.eclipse.odi.cdi.OdiBeanContainer;
+import org.eclipse.odi.cdi.events.OdiLifecycleEvents;
 
 import java.lang.annotation.Annotation;
-import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Simple {@link RequestScoped} Micronaut context.
+ * Simple {@link RequestScoped} Micronaut context. The contextual instances are bound to the thread that activated
+ * the context, so concurrent requests on different threads are isolated from each other. The storage is kept in a
+ * thread local rather than a {@link ScopedValue} because activation and deactivation are separate calls, made for
+ * example by {@link jakarta.enterprise.context.control.RequestContextController}, and not a single bounded scope.
+ * The storage is unbound when the context is deactivated or destroyed, so pooled threads do not keep it.
  */
 @Internal
 @Singleton
 final class RequestContext extends AbstractContext implements OdiRequestContext {
 
-    private final BeanProvider<OdiBeanContainer> beanContainer;
-    private final ReentrantLock lock = new ReentrantLock();
+    private final BeanProvider<OdiLifecycleEvents> lifecycleEvents;
+    private final ThreadLocal<ContextStorage> storage = new ThreadLocal<>();
 
-    RequestContext(BeanProvider<OdiBeanContainer> beanContainer) {
+    RequestContext(BeanProvider<OdiLifecycleEvents> lifecycleEvents) {
         super(false);
-        this.beanContainer = beanContainer;
+        this.lifecycleEvents = lifecycleEvents;
     }
 
     @Override
@@ -48,33 +48,45 @@ final class RequestContext extends AbstractContext implements OdiRequestContext
         return RequestScoped.class;
     }
 
+    @Override
+    ContextStorage currentStorage() {
+        return storage.get();
+    }
+
+    @Override
+    ContextStorage bindStorage() {
+        ContextStorage current = storage.get();
+        if (current == null) {
+            current = new ContextStorage(false);
+            storage.set(current);
+        }
+        return current;
+    }
+
+    @Override
+    void unbindStorage(ContextStorage contextStorage) {
+        if (storage.get() == contextStorage) {
+            storage.remove();
+        }
+    }
+
     @Override
     public boolean activateRequestContext() {
-        lock.lock();
-        try {
-            if (isActive()) {
-                return false;
-            }
-            activate();
-            beanContainer.get().getEvent().select(Initialized.Literal.REQUEST).fire(this);
-            return true;
-        } finally {
-            lock.unlock();
+        if (isActive()) {
+            return false;
         }
+        activate();
+        lifecycleEvents.get().fireRequestInitialized(this);
+        return true;
     }
 
     @Override
     public void deactivateRequestContext() {
-        lock.lock();
-        try {
-            if (!isActive()) {
-                throw new ContextNotActiveException("Request context is not active");
-            }
-            beanContainer.get().getEvent().select(BeforeDestroyed.Literal.REQUEST).fire(this);
-            destroy();
-            beanContainer.get().getEvent().select(Destroyed.Literal.REQUEST).fire(this);
-        } finally {
-            lock.unlock();
+        if (!isActive()) {
+            throw new ContextNotActiveException("Request context is not active");
         }
+        lifecycleEvents.get().fireRequestBeforeDestroyed(this);
+        destroy();
+        lifecycleEvents.get().fireRequestDestroyed(this);
     }
 }
@@ -28,6 +28,7 @@ abstract class AbstractOdiObserverMethod<E> implements OdiObserverMethod<E> {
     private final int priority;
     private final Reception notifyObserver;
     private final TransactionPhase transactionPhase;
+    private final String lane;
 
     AbstractOdiObserverMethod(AnnotationValue<ObservesMethod> observesMethodAnnotationValue) {
         if (observesMethodAnnotationValue == null) {
@@ -40,7 +41,7 @@ abstract class AbstractOdiObserverMethod<E> implements OdiObserverMethod<E> {
         this.transactionPhase = observesMethodAnnotationValue
                 .enumValue("during", TransactionPhase.class)
                 .orElse(TransactionPhase.IN_PROGRESS);
-
+        this.lane = observesMethodAnnotationValue.stringValue("lane").filter(name -> !name.isEmpty()).orElse(null);
     }
 
     @Override
@@ -63,6 +64,11 @@ abstract class AbstractOdiObserverMethod<E> implements OdiObserverMethod<E> {
         return priority;
     }
 
+    @Override
+    public final String getLane() {
+        return lane;
+    }
+
     @Override
     public Type getObservedType() {
         return getObservedArgument().asType();
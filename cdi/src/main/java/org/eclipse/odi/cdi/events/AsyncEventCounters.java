@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+/**
+ * The counters of the asynchronous notifications of an event type.
+ *
+ * @param inFlight     The number of notifications in flight
+ * @param peakInFlight The highest number of notifications in flight
+ * @param completed    The number of completed notifications
+ * @param callerRuns   The number of notifications run by the thread firing the event because of an overflow
+ * @param rejected     The number of notifications rejected because of an overflow
+ * @param blocked      The number of times the thread firing the event was blocked because of an overflow
+ */
+public record AsyncEventCounters(int inFlight,
+                                 int peakInFlight,
+                                 long completed,
+                                 long callerRuns,
+                                 long rejected,
+                                 long blocked) {
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The limits of the in-flight asynchronous notifications per event type.
+ *
+ * <p>The default limit of each event type is configured with the {@code odi.events.async.max-in-flight} and
+ * {@code odi.events.async.overflow-policy} properties. The limit of a specific event type is configured with the
+ * {@code odi.events.async.event-types.<name>.event-type}, {@code odi.events.async.event-types.<name>.max-in-flight}
+ * and {@code odi.events.async.event-types.<name>.overflow-policy} properties. Event types without a limit are
+ * neither limited nor counted. The default overflow policy is {@link AsyncEventOverflowPolicy#CALLER_RUNS}.</p>
+ */
+@Internal
+@Singleton
+public final class AsyncEventLimits {
+
+    /**
+     * The default maximum number of in-flight notifications of an event type.
+     */
+    public static final String MAX_IN_FLIGHT_PROPERTY = "odi.events.async.max-in-flight";
+
+    /**
+     * The default overflow policy.
+     */
+    public static final String OVERFLOW_POLICY_PROPERTY = "odi.events.async.overflow-policy";
+
+    /**
+     * The prefix of the event type specific limits.
+     */
+    public static final String EVENT_TYPES_PROPERTY_PREFIX = "odi.events.async.event-types";
+
+    @Nullable
+    private final Limit defaultLimit;
+    private final Map<String, Limit> eventTypeLimits;
+    private final Map<Class<?>, Optional<Limiter>> limiters = new ConcurrentHashMap<>();
+
+    AsyncEventLimits(BeanContext beanContext) {
+        if (beanContext instanceof ApplicationContext applicationContext) {
+            Environment environment = applicationContext.getEnvironment();
+            AsyncEventOverflowPolicy defaultPolicy = environment.getProperty(OVERFLOW_POLICY_PROPERTY, AsyncEventOverflowPolicy.class)
+                    .orElse(AsyncEventOverflowPolicy.CALLER_RUNS);
+            this.defaultLimit = environment.getProperty(MAX_IN_FLIGHT_PROPERTY, Integer.class)
+                    .map(maxInFlight -> new Limit(maxInFlight, defaultPolicy))
+                    .orElse(null);
+            Map<String, Limit> eventTypeLimits = new HashMap<>();
+            for (String name : environment.getPropertyEntries(EVENT_TYPES_PROPERTY_PREFIX)) {
+                String prefix = EVENT_TYPES_PROPERTY_PREFIX + "." + name + ".";
+                String eventType = environment.getProperty(prefix + "event-type", String.class)
+                        .orElseThrow(() -> new IllegalStateException("Missing property: " + prefix + "event-type"));
+                int maxInFlight = environment.getProperty(prefix + "max-in-flight", Integer.class)
+                        .orElseThrow(() -> new IllegalStateException("Missing property: " + prefix + "max-in-flight"));
+                AsyncEventOverflowPolicy policy = environment.getProperty(prefix + "overflow-policy", AsyncEventOverflowPolicy.class)
+                        .orElse(defaultPolicy);
+                eventTypeLimits.put(eventType, new Limit(maxInFlight, policy));
+            }
+            this.eventTypeLimits = eventTypeLimits;
+        } else {
+            this.defaultLimit = null;
+            this.eventTypeLimits = Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Returns the counters of the asynchronous notifications of the event type.
+     *
+     * @param eventType The runtime type of the event
+     * @return The counters or empty if the event type is not limited
+     */
+    public Optional<AsyncEventCounters> getCounters(Class<?> eventType) {
+        return findLimiter(eventType).map(Limiter::getCounters);
+    }
+
+    /**
+     * @return The counters of the asynchronous notifications of all the limited event types fired so far
+     */
+    public Map<Class<?>, AsyncEventCounters> getCounters() {
+        Map<Class<?>, AsyncEventCounters> counters = new HashMap<>();
+        limiters.forEach((eventType, limiter) -> limiter.ifPresent(l -> counters.put(eventType, l.getCounters())));
+        return counters;
+    }
+
+    /**
+     * Finds the limiter of the event type.
+     *
+     * @param eventType The runtime type of the event
+     * @return The limiter or empty if the event type is not limited
+     */
+    Optional<Limiter> findLimiter(Class<?> eventType) {
+        if (defaultLimit == null && eventTypeLimits.isEmpty()) {
+            return Optional.empty();
+        }
+        return limiters.computeIfAbsent(eventType, type -> {
+            Limit limit = eventTypeLimits.getOrDefault(type.getName(), defaultLimit);
+            return Optional.ofNullable(limit).map(l -> new Limiter(type, l));
+        });
+    }
+
+    private record Limit(int maxInFlight, AsyncEventOverflowPolicy policy) {
+        Limit {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("The maximum number of in-flight notifications must be positive: " + maxInFlight);
+            }
+        }
+    }
+
+    /**
+     * The limiter of the in-flight notifications of an event type.
+     */
+    static final class Limiter {
+
+        private final Class<?> eventType;
+        private final AsyncEventOverflowPolicy policy;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peakInFlight = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder blocked = new LongAdder();
+
+        private Limiter(Class<?> eventType, Limit limit) {
+            this.eventType = eventType;
+            this.policy = limit.policy();
+            this.permits = new Semaphore(limit.maxInFlight());
+        }
+
+        /**
+         * @return The runtime type of the limited events
+         */
+        Class<?> getEventType() {
+            return eventType;
+        }
+
+        /**
+         * @return The overflow policy
+         */
+        AsyncEventOverflowPolicy getPolicy() {
+            return policy;
+        }
+
+        /**
+         * Acquires an in-flight permit, blocking if the policy is {@link AsyncEventOverflowPolicy#BLOCK}.
+         *
+         * @return true if the permit is acquired, false if the notification overflows
+         * @throws InterruptedException if the thread is interrupted while blocked
+         */
+        boolean acquire() throws InterruptedException {
+            if (!permits.tryAcquire()) {
+                switch (policy) {
+                    case BLOCK -> {
+                        blocked.increment();
+                        permits.acquire();
+                    }
+                    case CALLER_RUNS -> {
+                        callerRuns.increment();
+                        return false;
+                    }
+                    default -> {
+                        rejected.increment();
+                        return false;
+                    }
+                }
+            }
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return true;
+        }
+
+        /**
+         * Releases the in-flight permit once the notification completes.
+         */
+        void release() {
+            inFlight.decrementAndGet();
+            completed.increment();
+            permits.release();
+        }
+
+        /**
+         * Releases the in-flight permit of a notification that was not submitted.
+         */
+        void abort() {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+
+        AsyncEventCounters getCounters() {
+            return new AsyncEventCounters(
+                    inFlight.get(),
+                    peakInFlight.get(),
+                    completed.sum(),
+                    callerRuns.sum(),
+                    rejected.sum(),
+                    blocked.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+/**
+ * The policy applied when an asynchronous event is fired while the maximum number of in-flight notifications
+ * of its type is reached.
+ */
+public enum AsyncEventOverflowPolicy {
+
+    /**
+     * Notifies the observer methods in the thread firing the event. This is the default policy.
+     */
+    CALLER_RUNS,
+
+    /**
+     * Completes the notification exceptionally with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT,
+
+    /**
+     * Blocks the thread firing the event until another notification of the same type completes.
+     *
+     * <p>Must be opted into explicitly: an event fired from an observer method of the same event type, or from a thread
+     * of the executor the notifications run on, can wait for a notification that never completes.</p>
+     */
+    BLOCK
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.SupplierUtil;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * The executors used to notify the asynchronous observer methods.
+ */
+@Internal
+final class AsyncObserverExecutors {
+
+    private final BeanContext beanContext;
+    private final Supplier<Executor> defaultExecutor;
+    private final boolean virtualThreadsByDefault;
+    // Starts a virtual thread per task; unlike a thread-per-task ExecutorService there is nothing to shut down
+    private final ThreadFactory virtualThreadFactory = Thread.ofVirtual().name("odi-async-observer-", 0).factory();
+    private final Executor virtualThreadExecutor = task -> virtualThreadFactory.newThread(task).start();
+    private final Map<String, LaneExecutor> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * @param beanContext The bean context
+     */
+    AsyncObserverExecutors(BeanContext beanContext) {
+        this.beanContext = beanContext;
+        this.defaultExecutor = SupplierUtil.memoized(() ->
+                beanContext.findBean(Executor.class, Qualifiers.byName("scheduled")).orElseGet(ForkJoinPool::commonPool)
+        );
+        this.virtualThreadsByDefault = getProperty(OdiEventFactory.VIRTUAL_THREADS_PROPERTY, Boolean.class, false);
+    }
+
+    /**
+     * @return The executor used when no executor is specified in the notification options
+     */
+    Executor getDefaultExecutor() {
+        return virtualThreadsByDefault ? virtualThreadExecutor : defaultExecutor.get();
+    }
+
+    /**
+     * @return Whether the default executor is running the tasks on virtual threads
+     */
+    boolean isVirtualThreadsByDefault() {
+        return virtualThreadsByDefault;
+    }
+
+    /**
+     * @return The executor running each task on a new virtual thread
+     */
+    Executor getVirtualThreadExecutor() {
+        return virtualThreadExecutor;
+    }
+
+    /**
+     * Returns the executor of the lane, created on the first use from the lane configuration.
+     *
+     * @param name The name of the lane
+     * @return The lane executor
+     */
+    LaneExecutor getLane(String name) {
+        return lanes.computeIfAbsent(name, this::createLane);
+    }
+
+    private LaneExecutor createLane(String name) {
+        String prefix = OdiEventFactory.LANES_PROPERTY_PREFIX + "." + name + ".";
+        String executorName = getProperty(prefix + "executor", String.class, null);
+        boolean virtualThreads = getProperty(prefix + "virtual-threads", Boolean.class, virtualThreadsByDefault);
+        Executor executor;
+        if (executorName != null) {
+            executor = beanContext.getBean(Executor.class, Qualifiers.byName(executorName));
+        } else if (virtualThreads) {
+            executor = virtualThreadExecutor;
+        } else {
+            executor = defaultExecutor.get();
+        }
+        int maxConcurrency = getProperty(prefix + "max-concurrency", Integer.class, AsyncObserverNotification.MAX_TASKS);
+        return new LaneExecutor(name, executor, maxConcurrency);
+    }
+
+    private <V> V getProperty(String name, Class<V> type, V defaultValue) {
+        if (beanContext instanceof ApplicationContext applicationContext) {
+            Environment environment = applicationContext.getEnvironment();
+            return environment.getProperty(name, type).orElse(defaultValue);
+        }
+        return defaultValue;
+    }
+}
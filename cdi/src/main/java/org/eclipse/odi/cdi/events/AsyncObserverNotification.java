@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.eclipse.odi.cdi.context.OdiRequestContext;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * The asynchronous notification of fired events.
+ *
+ * <p>The observer methods are split between a bounded number of tasks, each task notifying every n-th observer method.
+ * The request context is activated around every notification, so observer methods sharing a task never share
+ * request scoped instances. The notification completes a single future once all the tasks are done.</p>
+ *
+ * @param <T> The observed event type
+ * @param <R> The type of the value the notification completes with
+ */
+@Internal
+final class AsyncObserverNotification<T, R> {
+
+    /**
+     * The maximum number of tasks notifying the observer methods on a platform thread executor.
+     */
+    static final int MAX_TASKS = Runtime.getRuntime().availableProcessors();
+
+    private final R value;
+    private final Consumer<ObserverMethod<T>> notifier;
+    @Nullable
+    private final OdiRequestContext requestContext;
+    // One pending task is held by the submitter until all the tasks are submitted
+    private final AtomicInteger remainingTasks = new AtomicInteger(1);
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+
+    /**
+     * @param value          The value the notification completes with
+     * @param notifier       The notifier of an observer method
+     * @param requestContext The request context or null if not available
+     */
+    AsyncObserverNotification(R value,
+                              Consumer<ObserverMethod<T>> notifier,
+                              @Nullable OdiRequestContext requestContext) {
+        this.value = value;
+        this.notifier = notifier;
+        this.requestContext = requestContext;
+    }
+
+    /**
+     * Submits the tasks notifying the observer methods to the executor.
+     *
+     * @param observerMethods The observer methods
+     * @param executor        The executor
+     * @param maxTasks        The maximum number of tasks
+     */
+    void submit(List<ObserverMethod<T>> observerMethods, Executor executor, int maxTasks) {
+        int taskCount = Math.min(observerMethods.size(), maxTasks);
+        remainingTasks.addAndGet(taskCount);
+        for (int task = 0; task < taskCount; task++) {
+            int offset = task;
+            try {
+                executor.execute(() -> run(observerMethods, offset, taskCount));
+            } catch (Throwable e) {
+                failures.add(e);
+                taskDone();
+            }
+        }
+    }
+
+    /**
+     * Completes the submission of the tasks.
+     *
+     * @return The future completed with the value once all the observer methods are notified
+     */
+    CompletableFuture<R> complete() {
+        taskDone();
+        return result;
+    }
+
+    private void run(List<ObserverMethod<T>> observerMethods, int offset, int stride) {
+        try {
+            for (int i = offset; i < observerMethods.size(); i += stride) {
+                notifyObserverMethod(observerMethods.get(i));
+            }
+        } finally {
+            taskDone();
+        }
+    }
+
+    private void notifyObserverMethod(ObserverMethod<T> observerMethod) {
+        // Every observer method gets its own request context, as if it was notified by a separate task
+        boolean requestContextActivated = requestContext != null && requestContext.activateRequestContext();
+        try {
+            notifier.accept(observerMethod);
+        } catch (Throwable e) {
+            failures.add(e);
+        } finally {
+            if (requestContextActivated) {
+                requestContext.deactivateRequestContext();
+            }
+        }
+    }
+
+    private void taskDone() {
+        if (remainingTasks.decrementAndGet() != 0) {
+            return;
+        }
+        if (failures.isEmpty()) {
+            result.complete(value);
+        } else {
+            CompletionException exception = new CompletionException(new IllegalStateException("Failed to invoke async event handler"));
+            for (Throwable failure : failures) {
+                exception.addSuppressed(failure);
+            }
+            result.completeExceptionally(exception);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+/**
+ * The extension of {@link Event} firing batches of events. The observer methods are resolved once per distinct
+ * runtime type of the events in a batch, and each observer method receives the events in the batch order.
+ *
+ * <p>The {@link Event} instances created by ODI implement this interface.</p>
+ *
+ * @param <T> The event type
+ */
+public interface BatchEvent<T> extends Event<T> {
+
+    /**
+     * Fires the events to the synchronous observer methods, in order. Null events are ignored.
+     *
+     * @param events The events
+     */
+    void fireAll(Iterable<? extends T> events);
+
+    /**
+     * Fires the events to the synchronous observer methods, in the encounter order of the stream. Null events are ignored.
+     *
+     * @param events The events
+     */
+    void fireAll(Stream<? extends T> events);
+
+    /**
+     * Fires the events to the asynchronous observer methods. The observer methods are split between a bounded number
+     * of tasks, each task notifying its observer methods of all the events in order.
+     *
+     * @param events The events
+     * @param <U>    The fired event type
+     * @return The completion stage completed with the events once all the observer methods are notified
+     */
+    <U extends T> CompletionStage<List<U>> fireAllAsync(Iterable<U> events);
+
+    /**
+     * Fires the events to the asynchronous observer methods with the notification options.
+     *
+     * @param events  The events
+     * @param options The notification options
+     * @param <U>     The fired event type
+     * @return The completion stage completed with the events once all the observer methods are notified
+     * @see #fireAllAsync(Iterable)
+     */
+    <U extends T> CompletionStage<List<U>> fireAllAsync(Iterable<U> events, NotificationOptions options);
+
+}
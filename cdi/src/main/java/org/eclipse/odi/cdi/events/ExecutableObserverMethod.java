@@ -30,6 +30,7 @@ import jakarta.enterprise.inject.spi.InjectionPoint;
 import org.eclipse.odi.cdi.OdiBeanContainer;
 import org.eclipse.odi.cdi.OdiTypeUtils;
 import org.eclipse.odi.cdi.annotation.ObservesMethod;
+import org.eclipse.odi.cdi.annotation.VirtualThreadObserver;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -57,7 +58,25 @@ final class ExecutableObserverMethod<B, E> extends AbstractOdiObserverMethod<E>
     private final Type observedType;
     private final io.micronaut.context.Qualifier<E> eventQualifier;
     private final boolean staticMethod;
+    private final boolean virtualThread;
     private Set<Annotation> observedQualifiers;
+    private volatile Bean<?> observerBean;
+    private final EventMetadata defaultEventMetadata = new EventMetadata() {
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public InjectionPoint getInjectionPoint() {
+            return null;
+        }
+
+        @Override
+        public Type getType() {
+            return getObservedType();
+        }
+    };
 
     ExecutableObserverMethod(OdiBeanContainer beanContainer,
                              BeanDefinition<B> originalBeanDefinition,
@@ -73,6 +92,7 @@ final class ExecutableObserverMethod<B, E> extends AbstractOdiObserverMethod<E>
         this.observedType = resolveObservedType(beanDefinition, executableMethod, eventArgument, observesMethodAnnotationValue);
         this.eventQualifier = AnnotationUtils.qualifierFromQualifierMetadata(eventArgument.getAnnotationMetadata());
         this.staticMethod = observesMethodAnnotationValue.booleanValue("staticMethod").orElse(false);
+        this.virtualThread = executableMethod.hasAnnotation(VirtualThreadObserver.class);
     }
 
     @Override
@@ -112,6 +132,11 @@ final class ExecutableObserverMethod<B, E> extends AbstractOdiObserverMethod<E>
         return eventQualifier;
     }
 
+    @Override
+    public boolean isVirtualThread() {
+        return virtualThread;
+    }
+
     @Override
     public void notify(E event) {
         notify(event, null);
@@ -132,28 +157,10 @@ final class ExecutableObserverMethod<B, E> extends AbstractOdiObserverMethod<E>
         }
         try {
             beanContainer.fulfillAndExecuteMethod(beanDefinition, executableMethod, argument -> {
-                if (Objects.equals(argument, eventArgument)) {
+                if (argument == eventArgument || Objects.equals(argument, eventArgument)) {
                     return event;
                 } else if (argument.getType() == EventMetadata.class) {
-                    if (eventContext == null) {
-                        return new EventMetadata() {
-                            @Override
-                            public Set<Annotation> getQualifiers() {
-                                return Collections.emptySet();
-                            }
-
-                            @Override
-                            public InjectionPoint getInjectionPoint() {
-                                return null;
-                            }
-
-                            @Override
-                            public Type getType() {
-                                return getObservedType();
-                            }
-                        };
-                    }
-                    return eventContext.getMetadata();
+                    return eventContext == null ? defaultEventMetadata : eventContext.getMetadata();
                 }
                 return null;
             }, staticMethod);
@@ -165,7 +172,12 @@ final class ExecutableObserverMethod<B, E> extends AbstractOdiObserverMethod<E>
     }
 
     private Bean<?> getObserverBean() {
-        return beanContainer.getBean(beanDefinition);
+        Bean<?> bean = observerBean;
+        if (bean == null) {
+            bean = beanContainer.getBean(beanDefinition);
+            observerBean = bean;
+        }
+        return bean;
     }
 
     @Override
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor of an asynchronous observer lane, running at most the configured number of tasks concurrently
+ * on the underlying executor and queueing the others.
+ *
+ * <p>A task rejected by the underlying executor is run by the submitting thread.</p>
+ */
+@Internal
+final class LaneExecutor implements Executor {
+
+    private final String name;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * @param name           The name of the lane
+     * @param executor       The underlying executor
+     * @param maxConcurrency The maximum number of tasks running concurrently
+     */
+    LaneExecutor(String name, Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency of the lane [" + name + "] must be positive: " + maxConcurrency);
+        }
+        this.name = name;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @return The name of the lane
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return The maximum number of tasks running concurrently
+     */
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        drain();
+    }
+
+    private void drain() {
+        while (!tasks.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable task = tasks.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> run(task));
+            } catch (RejectedExecutionException e) {
+                run(task);
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            running.decrementAndGet();
+            drain();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LaneExecutor[" + name + "]";
+    }
+}
@@ -55,7 +55,12 @@ final class ObserverMethodContext {
     }
 
     private static Context findActiveContext(OdiBeanContainer beanContainer, Class<? extends Annotation> scope) {
-        return beanContainer.getContexts(scope).stream().filter(Context::isActive).findFirst().orElse(null);
+        for (Context context : beanContainer.getContexts(scope)) {
+            if (context.isActive()) {
+                return context;
+            }
+        }
+        return null;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -22,7 +22,6 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.inject.InjectionPoint;
 import io.micronaut.inject.annotation.AnnotationMetadataHierarchy;
 import io.micronaut.inject.qualifiers.AnyQualifier;
@@ -51,17 +50,21 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 
 /**
  * The implementation of {@link Event}.
@@ -69,7 +72,7 @@ import java.util.stream.Collectors;
  * @param <T> The event type
  */
 @Internal
-final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
+final class OdiEvent<T> implements BatchEvent<T>, OdiEventMetadata {
 
     private static final Logger EVENT_LOGGER = LoggerFactory.getLogger(ApplicationEventPublisher.class);
 
@@ -81,15 +84,19 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
     private final Qualifier<T> qualifier;
     @Nullable
     private final InjectionPoint<?> injectionPoint;
-    private final Supplier<Collection<ObserverMethod<T>>> observerMethodsSyncSupplier;
-    private final Supplier<Collection<ObserverMethod<T>>> observerMethodsAsyncSupplier;
     private final OdiObserverMethodRegistry observerMethodRegistry;
-    private final Supplier<Executor> executorSupplier;
+    private final AsyncObserverExecutors asyncObserverExecutors;
+    private final AsyncEventLimits asyncEventLimits;
 
     @Nullable
     private jakarta.enterprise.inject.spi.InjectionPoint cdiInjectionPoint;
     @Nullable
-    private Set<Annotation> qualifierAnnotations;
+    private volatile Set<Annotation> qualifierAnnotations;
+    @Nullable
+    private volatile DispatchPlan<T> dispatchPlan;
+    // The plans of the other runtime types, once the event is fired with more than one runtime type
+    @Nullable
+    private volatile Map<Class<?>, DispatchPlan<T>> otherDispatchPlans;
 
     OdiEvent(OdiBeanContainer beanContainer,
              AnnotationMetadata annotationMetadata,
@@ -98,18 +105,16 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
              @Nullable Qualifier<T> qualifier,
              @Nullable InjectionPoint<?> injectionPoint,
              OdiObserverMethodRegistry observerMethodRegistry,
-             Supplier<Executor> executorSupplier) {
+             AsyncObserverExecutors asyncObserverExecutors,
+             AsyncEventLimits asyncEventLimits) {
         this.beanContainer = beanContainer;
         this.annotationMetadata = annotationMetadata;
         this.eventType = eventType;
         this.selectedEventType = selectedEventType;
         this.qualifier = qualifier;
         this.injectionPoint = injectionPoint;
-        this.observerMethodsSyncSupplier = SupplierUtil.memoizedNonEmpty(() ->
-                observerMethodRegistry.findListOfObserverMethods(eventType, qualifier).stream().filter(m -> !m.isAsync()).collect(Collectors.toList()));
-        this.observerMethodsAsyncSupplier = SupplierUtil.memoizedNonEmpty(() ->
-                observerMethodRegistry.findListOfObserverMethods(eventType, qualifier).stream().filter(ObserverMethod::isAsync).collect(Collectors.toList()));
-        this.executorSupplier = executorSupplier;
+        this.asyncObserverExecutors = asyncObserverExecutors;
+        this.asyncEventLimits = asyncEventLimits;
         this.observerMethodRegistry = observerMethodRegistry;
     }
 
@@ -119,12 +124,12 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
             if (EVENT_LOGGER.isDebugEnabled()) {
                 EVENT_LOGGER.debug("Firing event: {}", event);
             }
-            notifyObserverMethods(event, findObserverMethods(event, false));
+            notifyObserverMethods(event, findDispatchPlan(event.getClass()).syncObserverMethods());
         }
     }
 
     public <U extends T> CompletionStage<U> fireAsync(U event) {
-        return fireAsync(event, executorSupplier.get());
+        return fireAsync(event, (Executor) null);
     }
 
     @Override
@@ -132,6 +137,30 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
         return fireAsync(event, options.getExecutor());
     }
 
+    @Override
+    public void fireAll(Iterable<? extends T> events) {
+        Map<Class<?>, DispatchPlan<T>> plans = new HashMap<>();
+        for (T event : events) {
+            fireInBatch(event, plans);
+        }
+    }
+
+    @Override
+    public void fireAll(Stream<? extends T> events) {
+        Map<Class<?>, DispatchPlan<T>> plans = new HashMap<>();
+        events.forEachOrdered(event -> fireInBatch(event, plans));
+    }
+
+    @Override
+    public <U extends T> CompletionStage<List<U>> fireAllAsync(Iterable<U> events) {
+        return fireAllAsync(events, (Executor) null);
+    }
+
+    @Override
+    public <U extends T> CompletionStage<List<U>> fireAllAsync(Iterable<U> events, NotificationOptions options) {
+        return fireAllAsync(events, options.getExecutor());
+    }
+
     @Override
     public Event<T> select(Annotation... qualifiers) {
         return select(eventType, qualifiers);
@@ -176,34 +205,153 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
                 qualifier,
                 injectionPoint,
                 observerMethodRegistry,
-                executorSupplier
+                asyncObserverExecutors,
+                asyncEventLimits
         );
     }
 
-    private <U extends T> CompletableFuture<U> fireAsync(U event, Executor executor) {
+    private <U extends T> CompletableFuture<U> fireAsync(U event, @Nullable Executor executor) {
         Objects.requireNonNull(event, "Event cannot be null");
-        return notifyObserverMethodsAsync(event, findObserverMethods(event, true), executor);
+        return notifyObserverMethodsAsync(event, findDispatchPlan(event.getClass()), executor);
     }
 
-    private Collection<ObserverMethod<T>> findObserverMethods(@NonNull Object event, boolean async) {
+    private void fireInBatch(@Nullable T event, Map<Class<?>, DispatchPlan<T>> plans) {
+        if (event != null) {
+            if (EVENT_LOGGER.isDebugEnabled()) {
+                EVENT_LOGGER.debug("Firing event: {}", event);
+            }
+            DispatchPlan<T> plan = plans.computeIfAbsent(event.getClass(), this::findDispatchPlan);
+            notifyObserverMethods(event, plan.syncObserverMethods());
+        }
+    }
+
+    private <U extends T> CompletableFuture<List<U>> fireAllAsync(Iterable<U> events, @Nullable Executor executor) {
+        List<U> firedEvents = new ArrayList<>();
+        Map<Class<?>, DispatchPlan<T>> plans = new LinkedHashMap<>();
+        Map<ObserverMethod<T>, List<EventContext<T>>> observerEventContexts = new LinkedHashMap<>();
+        for (U event : events) {
+            Objects.requireNonNull(event, "Event cannot be null");
+            firedEvents.add(event);
+            DispatchPlan<T> plan = plans.computeIfAbsent(event.getClass(), this::findDispatchPlan);
+            List<ObserverMethod<T>> asyncObserverMethods = plan.asyncObserverGroups().observerMethods();
+            if (!asyncObserverMethods.isEmpty()) {
+                EventContext<T> eventContext = new FiredEventContext(event);
+                for (ObserverMethod<T> observerMethod : asyncObserverMethods) {
+                    observerEventContexts.computeIfAbsent(observerMethod, key -> new ArrayList<>()).add(eventContext);
+                }
+            }
+        }
+        List<U> result = Collections.unmodifiableList(firedEvents);
+        if (observerEventContexts.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        // Acquire the limiters in a stable order to avoid deadlocks between blocked batches
+        List<AsyncEventLimits.Limiter> limiters = plans.values().stream()
+                .flatMap(plan -> plan.asyncLimiters().stream())
+                .sorted(Comparator.comparing(limiter -> limiter.getEventType().getName()))
+                .toList();
+        AsyncObserverNotification<T, List<U>> notification = new AsyncObserverNotification<>(
+                result,
+                observerMethod -> notifyObserverMethod(observerEventContexts.get(observerMethod), observerMethod),
+                findRequestContext()
+        );
+        return notifyObserverMethodsAsync(
+                notification,
+                groupAsyncObserverMethods(new ArrayList<>(observerEventContexts.keySet())),
+                limiters,
+                executor
+        );
+    }
+
+    /**
+     * Whether firing an event of the given runtime type synchronously would notify any observer method.
+     *
+     * @param runtimeType The runtime type of the event
+     * @return true if there is at least one synchronous observer method
+     */
+    boolean hasObserverMethods(@NonNull Class<?> runtimeType) {
+        return !findDispatchPlan(runtimeType).syncObserverMethods().isEmpty();
+    }
+
+    private DispatchPlan<T> findDispatchPlan(@NonNull Class<?> runtimeType) {
+        DispatchPlan<T> plan = dispatchPlan;
+        int registryVersion = observerMethodRegistry.getVersion();
+        if (plan == null || plan.runtimeType() == runtimeType) {
+            if (plan == null || plan.registryVersion() != registryVersion) {
+                plan = createDispatchPlan(runtimeType, registryVersion);
+                dispatchPlan = plan;
+            }
+            return plan;
+        }
+        Map<Class<?>, DispatchPlan<T>> plans = otherDispatchPlans;
+        if (plans == null) {
+            plans = new ConcurrentHashMap<>();
+            otherDispatchPlans = plans;
+        }
+        DispatchPlan<T> otherPlan = plans.get(runtimeType);
+        if (otherPlan == null || otherPlan.registryVersion() != registryVersion) {
+            otherPlan = createDispatchPlan(runtimeType, registryVersion);
+            plans.put(runtimeType, otherPlan);
+        }
+        return otherPlan;
+    }
+
+    private DispatchPlan<T> createDispatchPlan(@NonNull Class<?> runtimeType, int registryVersion) {
         validateNoTypeVariables(selectedEventType);
         Set<ObserverMethod<T>> methods = new LinkedHashSet<>();
-        for (Argument<?> argument : resolveEventArguments(event)) {
+        for (Argument<?> argument : resolveEventArguments(runtimeType)) {
             Collection<ObserverMethod<T>> observerMethods = (Collection) observerMethodRegistry.findListOfObserverMethods((Argument) argument, (Qualifier) qualifier);
-            for (ObserverMethod<T> observerMethod : observerMethods) {
-                if (observerMethod.isAsync() == async) {
-                    methods.add(observerMethod);
-                }
-            }
+            methods.addAll(observerMethods);
         }
         List<ObserverMethod<T>> sortedMethods = new ArrayList<>(methods);
         sortedMethods.sort(Comparator.comparing(ObserverMethod::getPriority));
-        return sortedMethods;
+        List<ObserverMethod<T>> syncObserverMethods = new ArrayList<>(sortedMethods.size());
+        List<ObserverMethod<T>> asyncObserverMethods = new ArrayList<>(sortedMethods.size());
+        for (ObserverMethod<T> observerMethod : sortedMethods) {
+            if (observerMethod.isAsync()) {
+                asyncObserverMethods.add(observerMethod);
+            } else {
+                syncObserverMethods.add(observerMethod);
+            }
+        }
+        return new DispatchPlan<>(
+                runtimeType,
+                registryVersion,
+                List.copyOf(syncObserverMethods),
+                groupAsyncObserverMethods(asyncObserverMethods),
+                asyncObserverMethods.isEmpty()
+                        ? List.of()
+                        : asyncEventLimits.findLimiter(runtimeType).map(List::of).orElse(List.of())
+        );
+    }
+
+    private static <T> AsyncObserverGroups<T> groupAsyncObserverMethods(List<ObserverMethod<T>> asyncObserverMethods) {
+        List<ObserverMethod<T>> defaultObserverMethods = new ArrayList<>(asyncObserverMethods.size());
+        List<ObserverMethod<T>> virtualThreadObserverMethods = new ArrayList<>(asyncObserverMethods.size());
+        Map<String, List<ObserverMethod<T>>> laneObserverMethods = new LinkedHashMap<>();
+        for (ObserverMethod<T> observerMethod : asyncObserverMethods) {
+            OdiObserverMethod<T> odiObserverMethod = observerMethod instanceof OdiObserverMethod<T> method ? method : null;
+            if (odiObserverMethod != null && odiObserverMethod.getLane() != null) {
+                laneObserverMethods.computeIfAbsent(odiObserverMethod.getLane(), lane -> new ArrayList<>()).add(observerMethod);
+            } else if (odiObserverMethod != null && odiObserverMethod.isVirtualThread()) {
+                virtualThreadObserverMethods.add(observerMethod);
+            } else {
+                defaultObserverMethods.add(observerMethod);
+            }
+        }
+        return new AsyncObserverGroups<>(
+                List.copyOf(asyncObserverMethods),
+                List.copyOf(defaultObserverMethods),
+                List.copyOf(virtualThreadObserverMethods),
+                laneObserverMethods.entrySet().stream()
+                        .map(entry -> new LaneObserverMethods<>(entry.getKey(), List.copyOf(entry.getValue())))
+                        .toList()
+        );
     }
 
-    private Collection<Argument<?>> resolveEventArguments(@NonNull Object event) {
+    private Collection<Argument<?>> resolveEventArguments(@NonNull Class<?> runtimeType) {
         LinkedHashSet<Argument<?>> arguments = new LinkedHashSet<>();
-        Argument<?> runtimeArgument = resolveRuntimeArgument(event);
+        Argument<?> runtimeArgument = resolveRuntimeArgument(runtimeType);
         arguments.add(runtimeArgument);
         if (!sameEventArgument(runtimeArgument, eventType)) {
             arguments.add(eventType);
@@ -216,8 +364,7 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
                 && Objects.equals(left.asType(), right.asType());
     }
 
-    private Argument<?> resolveRuntimeArgument(@NonNull Object event) {
-        Class<?> runtimeType = event.getClass();
+    private Argument<?> resolveRuntimeArgument(@NonNull Class<?> runtimeType) {
         if (eventType.getType() == Object.class) {
             return rawRuntimeArgument(runtimeType);
         }
@@ -307,61 +454,117 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
 
     private void notifyObserverMethods(@NonNull T event, Collection<ObserverMethod<T>> observerMethods) {
         if (!observerMethods.isEmpty()) {
+            EventContext<T> eventContext = new FiredEventContext(event);
             for (ObserverMethod<T> observerMethod : observerMethods) {
-                notifyObserverMethod(event, observerMethod);
+                notifyObserverMethod(eventContext, observerMethod);
             }
         }
     }
 
-    private <U extends T> CompletableFuture<U> notifyObserverMethodsAsync(@NonNull U event, Collection<ObserverMethod<T>> observerMethods, Executor executor) {
-        if (!observerMethods.isEmpty()) {
-            CompletableFuture<Throwable> cf = CompletableFuture.completedFuture(null);
-            for (ObserverMethod<T> observerMethod : observerMethods) {
-                CompletableFuture<Throwable> nextNotify = CompletableFuture.supplyAsync(() -> {
-                    OdiRequestContext requestContext = beanContainer.getBeanContext()
-                            .findBean(OdiRequestContext.class)
-                            .orElse(null);
-                    boolean requestContextActivated = requestContext != null && requestContext.activateRequestContext();
-                    try {
-                        notifyObserverMethod(event, observerMethod);
-                    } catch (Throwable e) {
-                        return e;
-                    } finally {
-                        if (requestContextActivated) {
-                            requestContext.deactivateRequestContext();
-                        }
-                    }
-                    return null;
-                }, executor);
-                cf = cf.thenCombine(nextNotify, (t1, t2) -> {
-                    if (t2 != null) {
-                        if (t1 == null) {
-                            t1 = new CompletionException(new IllegalStateException("Failed to invoke async event handler"));
-                        }
-                        t1.addSuppressed(t2);
+    private <U extends T> CompletableFuture<U> notifyObserverMethodsAsync(@NonNull U event, DispatchPlan<T> plan, @Nullable Executor executor) {
+        AsyncObserverGroups<T> asyncObserverGroups = plan.asyncObserverGroups();
+        if (asyncObserverGroups.observerMethods().isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        EventContext<T> eventContext = new FiredEventContext(event);
+        AsyncObserverNotification<T, U> notification = new AsyncObserverNotification<>(
+                event,
+                observerMethod -> notifyObserverMethod(eventContext, observerMethod),
+                findRequestContext()
+        );
+        return notifyObserverMethodsAsync(notification, asyncObserverGroups, plan.asyncLimiters(), executor);
+    }
+
+    private <R> CompletableFuture<R> notifyObserverMethodsAsync(AsyncObserverNotification<T, R> notification,
+                                                                AsyncObserverGroups<T> asyncObserverGroups,
+                                                                List<AsyncEventLimits.Limiter> limiters,
+                                                                @Nullable Executor executor) {
+        List<AsyncEventLimits.Limiter> acquiredLimiters = new ArrayList<>(limiters.size());
+        try {
+            for (AsyncEventLimits.Limiter limiter : limiters) {
+                if (!limiter.acquire()) {
+                    acquiredLimiters.forEach(AsyncEventLimits.Limiter::abort);
+                    if (limiter.getPolicy() == AsyncEventOverflowPolicy.CALLER_RUNS) {
+                        notification.submit(asyncObserverGroups.observerMethods(), Runnable::run, 1);
+                        return notification.complete();
                     }
-                    return t1;
-                });
+                    return CompletableFuture.failedFuture(new RejectedExecutionException(
+                            "Too many in-flight asynchronous notifications of event type: " + limiter.getEventType().getName()
+                    ));
+                }
+                acquiredLimiters.add(limiter);
             }
-            return cf.thenApply(throwable -> {
-                if (throwable != null) {
-                    throw (CompletionException) throwable;
+        } catch (InterruptedException e) {
+            acquiredLimiters.forEach(AsyncEventLimits.Limiter::abort);
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new CompletionException(e));
+        }
+        submitObserverMethodsAsync(notification, asyncObserverGroups, executor);
+        CompletableFuture<R> result = notification.complete();
+        if (!acquiredLimiters.isEmpty()) {
+            // Callers depend on the stage that completes after the release, so they can fire again right away
+            result = result.whenComplete((ignore, throwable) -> acquiredLimiters.forEach(AsyncEventLimits.Limiter::release));
+        }
+        return result;
+    }
+
+    private void submitObserverMethodsAsync(AsyncObserverNotification<T, ?> notification,
+                                            AsyncObserverGroups<T> asyncObserverGroups,
+                                            @Nullable Executor executor) {
+        if (executor != null) {
+            notification.submit(asyncObserverGroups.observerMethods(), executor, AsyncObserverNotification.MAX_TASKS);
+            return;
+        }
+        if (!asyncObserverGroups.defaultObserverMethods().isEmpty()) {
+            notification.submit(
+                    asyncObserverGroups.defaultObserverMethods(),
+                    asyncObserverExecutors.getDefaultExecutor(),
+                    asyncObserverExecutors.isVirtualThreadsByDefault() ? Integer.MAX_VALUE : AsyncObserverNotification.MAX_TASKS
+            );
+        }
+        if (!asyncObserverGroups.virtualThreadObserverMethods().isEmpty()) {
+            notification.submit(asyncObserverGroups.virtualThreadObserverMethods(), asyncObserverExecutors.getVirtualThreadExecutor(), Integer.MAX_VALUE);
+        }
+        for (LaneObserverMethods<T> lane : asyncObserverGroups.laneObserverMethods()) {
+            LaneExecutor laneExecutor = asyncObserverExecutors.getLane(lane.lane());
+            notification.submit(lane.observerMethods(), laneExecutor, laneExecutor.getMaxConcurrency());
+        }
+    }
+
+    @Nullable
+    private OdiRequestContext findRequestContext() {
+        return beanContainer.getBeanContext()
+                .findBean(OdiRequestContext.class)
+                .orElse(null);
+    }
+
+    private void notifyObserverMethod(List<EventContext<T>> eventContexts, ObserverMethod<T> observerMethod) {
+        RuntimeException failure = null;
+        for (EventContext<T> eventContext : eventContexts) {
+            try {
+                notifyObserverMethod(eventContext, observerMethod);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
                 }
-                return event;
-            });
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
-        return CompletableFuture.completedFuture(null);
     }
 
-    private <U extends T> void notifyObserverMethod(U event, ObserverMethod<T> observerMethod) {
+    private void notifyObserverMethod(EventContext<T> eventContext, ObserverMethod<T> observerMethod) {
         try {
             if (EVENT_LOGGER.isTraceEnabled()) {
-                EVENT_LOGGER.trace("Invoking observer method [{}] for event: {}", observerMethod, event);
+                EVENT_LOGGER.trace("Invoking observer method [{}] for event: {}", observerMethod, eventContext.getEvent());
             }
-            observerMethod.notify(createContext(event));
+            observerMethod.notify(eventContext);
         } catch (ClassCastException ex) {
             String msg = ex.getMessage();
-            if (msg == null || msg.startsWith(event.getClass().getName())) {
+            if (msg == null || msg.startsWith(eventContext.getEvent().getClass().getName())) {
                 if (EVENT_LOGGER.isDebugEnabled()) {
                     EVENT_LOGGER.debug("Incompatible observerMethod for event: " + observerMethod, ex);
                 }
@@ -371,21 +574,6 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
         }
     }
 
-    private <K> EventContext<K> createContext(K event) {
-        OdiEventMetadata metadata = createMetadata(resolveRuntimeArgument(event));
-        return new EventContext<K>() {
-            @Override
-            public K getEvent() {
-                return event;
-            }
-
-            @Override
-            public EventMetadata getMetadata() {
-                return metadata;
-            }
-        };
-    }
-
     private OdiEventMetadata createMetadata(Argument<?> resolvedEventArgument) {
         Type resolvedEventType = resolvedEventArgument.asType();
         return new OdiEventMetadata() {
@@ -411,6 +599,78 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
         };
     }
 
+    /**
+     * The context of a fired event shared by all the notified observer methods.
+     * The metadata is only created if an observer method requests it.
+     */
+    private final class FiredEventContext implements EventContext<T> {
+
+        private final T event;
+        @Nullable
+        private volatile OdiEventMetadata metadata;
+
+        private FiredEventContext(T event) {
+            this.event = event;
+        }
+
+        @Override
+        public T getEvent() {
+            return event;
+        }
+
+        @Override
+        public EventMetadata getMetadata() {
+            OdiEventMetadata eventMetadata = metadata;
+            if (eventMetadata == null) {
+                eventMetadata = createMetadata(resolveRuntimeArgument(event.getClass()));
+                metadata = eventMetadata;
+            }
+            return eventMetadata;
+        }
+    }
+
+    /**
+     * The observer methods resolved for a runtime event type.
+     *
+     * @param runtimeType         The runtime type of the event
+     * @param registryVersion     The version of the observer method registry the plan was resolved with
+     * @param syncObserverMethods The synchronous observer methods
+     * @param asyncObserverGroups The asynchronous observer methods
+     * @param asyncLimiters       The limiters of the in-flight asynchronous notifications
+     * @param <T>                 The event type
+     */
+    private record DispatchPlan<T>(Class<?> runtimeType,
+                                   int registryVersion,
+                                   List<ObserverMethod<T>> syncObserverMethods,
+                                   AsyncObserverGroups<T> asyncObserverGroups,
+                                   List<AsyncEventLimits.Limiter> asyncLimiters) {
+    }
+
+    /**
+     * The asynchronous observer methods grouped by the executor they are notified on.
+     *
+     * @param observerMethods              All the asynchronous observer methods
+     * @param defaultObserverMethods       The observer methods notified on the default executor
+     * @param virtualThreadObserverMethods The observer methods notified on virtual threads
+     * @param laneObserverMethods          The observer methods notified in the named lanes
+     * @param <T>                          The event type
+     */
+    private record AsyncObserverGroups<T>(List<ObserverMethod<T>> observerMethods,
+                                          List<ObserverMethod<T>> defaultObserverMethods,
+                                          List<ObserverMethod<T>> virtualThreadObserverMethods,
+                                          List<LaneObserverMethods<T>> laneObserverMethods) {
+    }
+
+    /**
+     * The asynchronous observer methods notified in a named lane.
+     *
+     * @param lane            The name of the lane
+     * @param observerMethods The observer methods
+     * @param <T>             The event type
+     */
+    private record LaneObserverMethods<T>(String lane, List<ObserverMethod<T>> observerMethods) {
+    }
+
     @Override
     public Qualifier<?> getQualifier() {
         return qualifier;
@@ -421,12 +681,16 @@ final class OdiEvent<T> implements Event<T>, OdiEventMetadata {
         if (qualifier == null) {
             return Collections.emptySet();
         }
-        if (qualifierAnnotations == null) {
-            qualifierAnnotations = AnnotationUtils.synthesizeQualifierAnnotations(annotationMetadata, beanContainer.getBeanContext().getClassLoader());
+        Set<Annotation> annotations = qualifierAnnotations;
+        if (annotations == null) {
+            Set<Annotation> synthesizedAnnotations = new HashSet<>(
+                    AnnotationUtils.synthesizeQualifierAnnotations(annotationMetadata, beanContainer.getBeanContext().getClassLoader())
+            );
+            synthesizedAnnotations.add(Any.Literal.INSTANCE);
+            annotations = Collections.unmodifiableSet(synthesizedAnnotations);
+            qualifierAnnotations = annotations;
         }
-        qualifierAnnotations = new HashSet<>(qualifierAnnotations);
-        qualifierAnnotations.add(Any.Literal.INSTANCE);
-        return qualifierAnnotations;
+        return annotations;
     }
 
     @Override
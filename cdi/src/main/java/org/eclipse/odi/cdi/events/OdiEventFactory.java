@@ -26,10 +26,8 @@ import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.type.Argument;
-import io.micronaut.core.util.SupplierUtil;
 import io.micronaut.inject.ArgumentInjectionPoint;
 import io.micronaut.inject.InjectionPoint;
-import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.enterprise.context.Dependent;
 import jakarta.enterprise.event.Event;
 import jakarta.enterprise.event.NotificationOptions;
@@ -41,10 +39,9 @@ import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
-import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * The factory of {@link jakarta.enterprise.event.Event}.
@@ -54,18 +51,28 @@ import java.util.function.Supplier;
 @Factory
 public final class OdiEventFactory {
 
+    /**
+     * Whether the asynchronous observer methods are notified on virtual threads by default.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "odi.events.async.virtual-threads";
+
+    /**
+     * The prefix of the asynchronous observer lane properties.
+     */
+    public static final String LANES_PROPERTY_PREFIX = "odi.events.async.lanes";
+
     private final OdiBeanContainer beanContainer;
     private final OdiObserverMethodRegistry observerMethodRegistry;
-    private final Supplier<Executor> executorSupplier = SupplierUtil.memoized(new Supplier<>() {
-        @Override
-        public Executor get() {
-            return beanContainer.getBeanContext().findBean(Executor.class, Qualifiers.byName("scheduled")).orElseGet(ForkJoinPool::commonPool);
-        }
-    });
+    private final AsyncObserverExecutors asyncObserverExecutors;
+    private final AsyncEventLimits asyncEventLimits;
 
-    OdiEventFactory(OdiBeanContainer beanContainer, OdiObserverMethodRegistry observerMethodRegistry) {
+    OdiEventFactory(OdiBeanContainer beanContainer,
+                    OdiObserverMethodRegistry observerMethodRegistry,
+                    AsyncEventLimits asyncEventLimits) {
         this.beanContainer = beanContainer;
         this.observerMethodRegistry = observerMethodRegistry;
+        this.asyncEventLimits = asyncEventLimits;
+        this.asyncObserverExecutors = new AsyncObserverExecutors(beanContainer.getBeanContext());
     }
 
     @SuppressWarnings("unused")
@@ -100,45 +107,53 @@ public final class OdiEventFactory {
         return getTypedEvent(annotationMetadata, eventType, eventType.asType(), eventQualifier, argumentInjectionPoint);
     }
 
-    private Event<Object> createObjectEvent(
+    private BatchEvent<Object> createObjectEvent(
             AnnotationMetadata annotationMetadata,
             @Nullable Qualifier qualifier,
             @Nullable InjectionPoint<?> injectionPoint) {
-        return new Event<>() {
-            @SuppressWarnings("unchecked")
+        // Bound once, so that the dispatch plan of the event is reused by every fire
+        @SuppressWarnings("unchecked")
+        OdiEvent<Object> objectEvent = getTypedEvent(
+                annotationMetadata,
+                Argument.OBJECT_ARGUMENT,
+                Object.class,
+                qualifier,
+                injectionPoint
+        );
+        return new BatchEvent<>() {
             @Override
             public void fire(Object event) {
-                getTypedEvent(
-                        annotationMetadata,
-                        Argument.OBJECT_ARGUMENT,
-                        Object.class,
-                        qualifier,
-                        injectionPoint)
-                .fire(event);
+                objectEvent.fire(event);
+            }
+
+            @Override
+            public void fireAll(Iterable<?> events) {
+                objectEvent.fireAll(events);
+            }
+
+            @Override
+            public void fireAll(Stream<?> events) {
+                objectEvent.fireAll(events);
+            }
+
+            @Override
+            public <U> CompletionStage<List<U>> fireAllAsync(Iterable<U> events) {
+                return objectEvent.fireAllAsync(events);
+            }
+
+            @Override
+            public <U> CompletionStage<List<U>> fireAllAsync(Iterable<U> events, NotificationOptions options) {
+                return objectEvent.fireAllAsync(events, options);
             }
 
-            @SuppressWarnings("unchecked")
             @Override
             public <U> CompletionStage<U> fireAsync(U event) {
-                return getTypedEvent(
-                        annotationMetadata,
-                        Argument.OBJECT_ARGUMENT,
-                        Object.class,
-                        qualifier,
-                        injectionPoint)
-                .fireAsync(event);
+                return objectEvent.fireAsync(event);
             }
 
-            @SuppressWarnings("unchecked")
             @Override
             public <U> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
-                return getTypedEvent(
-                        annotationMetadata,
-                        Argument.OBJECT_ARGUMENT,
-                        Object.class,
-                        qualifier,
-                        injectionPoint)
-                .fireAsync(event, options);
+                return objectEvent.fireAsync(event, options);
             }
 
             @Override
@@ -166,7 +181,7 @@ public final class OdiEventFactory {
         };
     }
 
-    private <K> Event<K> getTypedEvent(
+    private <K> OdiEvent<K> getTypedEvent(
             AnnotationMetadata annotationMetadata,
             Argument<K> eventType,
             Type selectedEventType,
@@ -180,7 +195,8 @@ public final class OdiEventFactory {
                 eventQualifier,
                 injectionPoint,
                 observerMethodRegistry,
-                executorSupplier
+                asyncObserverExecutors,
+                asyncEventLimits
         );
     }
 
@@ -192,11 +208,23 @@ public final class OdiEventFactory {
         return getTypedEvent(annotationMetadata, eventType, eventType.asType(), eventQualifier, injectionPoint);
     }
 
+    /**
+     * Builds an event that is not bound to an injection point, used to fire the container lifecycle events.
+     *
+     * @param eventType  The event type
+     * @param qualifiers The qualifiers
+     * @param <K>        The event type
+     * @return The event
+     */
+    <K> OdiEvent<K> buildLifecycleEvent(Argument<K> eventType, Annotation... qualifiers) {
+        return getTypedEvent(eventType, eventType.asType(), qualifiers, null);
+    }
+
     private <K> Event<K> getTypedEvent(Argument<K> eventType, Annotation[] qualifiers, InjectionPoint<?> injectionPoint) {
         return getTypedEvent(eventType, eventType.asType(), qualifiers, injectionPoint);
     }
 
-    private <K> Event<K> getTypedEvent(Argument<K> eventType, Type selectedEventType, Annotation[] qualifiers, InjectionPoint<?> injectionPoint) {
+    private <K> OdiEvent<K> getTypedEvent(Argument<K> eventType, Type selectedEventType, Annotation[] qualifiers, InjectionPoint<?> injectionPoint) {
         AnnotationMetadata annotationMetadata = AnnotationUtils.annotationMetadataFromQualifierAnnotations(qualifiers);
         Qualifier<K> qualifier = AnnotationUtils.qualifierFromQualifierAnnotations(annotationMetadata, qualifiers);
         return new OdiEvent<>(
@@ -207,7 +235,8 @@ public final class OdiEventFactory {
                 qualifier,
                 injectionPoint,
                 observerMethodRegistry,
-                executorSupplier
+                asyncObserverExecutors,
+                asyncEventLimits
         );
     }
 
@@ -20,33 +20,27 @@ import io.micronaut.context.event.BeanContextEvent;
 import io.micronaut.context.event.ShutdownEvent;
 import io.micronaut.context.event.StartupEvent;
 import io.micronaut.core.annotation.Internal;
-import jakarta.enterprise.context.BeforeDestroyed;
-import jakarta.enterprise.context.Destroyed;
-import jakarta.enterprise.context.Initialized;
-import jakarta.enterprise.event.Shutdown;
-import jakarta.enterprise.event.Startup;
 import jakarta.inject.Singleton;
-import org.eclipse.odi.cdi.OdiBeanContainer;
 
 @Internal
 @Singleton
 final class OdiLifecycleEventBridge implements ApplicationEventListener<BeanContextEvent> {
 
-    private final OdiBeanContainer beanContainer;
+    private final OdiLifecycleEvents lifecycleEvents;
 
-    OdiLifecycleEventBridge(OdiBeanContainer beanContainer) {
-        this.beanContainer = beanContainer;
+    OdiLifecycleEventBridge(OdiLifecycleEvents lifecycleEvents) {
+        this.lifecycleEvents = lifecycleEvents;
     }
 
     @Override
     public void onApplicationEvent(BeanContextEvent event) {
         if (event instanceof StartupEvent) {
-            beanContainer.getEvent().select(Initialized.Literal.APPLICATION).fire(event.getSource());
-            beanContainer.getEvent().select(Startup.class).fire(new Startup());
+            lifecycleEvents.fireApplicationInitialized(event.getSource());
+            lifecycleEvents.fireStartup();
         } else if (event instanceof ShutdownEvent) {
-            beanContainer.getEvent().select(Shutdown.class).fire(new Shutdown());
-            beanContainer.getEvent().select(BeforeDestroyed.Literal.APPLICATION).fire(event.getSource());
-            beanContainer.getEvent().select(Destroyed.Literal.APPLICATION).fire(event.getSource());
+            lifecycleEvents.fireShutdown();
+            lifecycleEvents.fireApplicationBeforeDestroyed(event.getSource());
+            lifecycleEvents.fireApplicationDestroyed(event.getSource());
         }
     }
 
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.type.Argument;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.event.Shutdown;
+import jakarta.enterprise.event.Startup;
+import jakarta.inject.Singleton;
+
+import java.util.function.Supplier;
+
+/**
+ * Fires the container lifecycle events. The events are built once and shared, and an event is only fired
+ * when at least one observer method would be notified; the observer resolution is cached by the events
+ * until the observer method registry changes.
+ */
+@Internal
+@Singleton
+public final class OdiLifecycleEvents {
+
+    private final OdiEvent<Object> requestInitialized;
+    private final OdiEvent<Object> requestBeforeDestroyed;
+    private final OdiEvent<Object> requestDestroyed;
+    private final OdiEvent<Object> applicationInitialized;
+    private final OdiEvent<Object> applicationBeforeDestroyed;
+    private final OdiEvent<Object> applicationDestroyed;
+    private final OdiEvent<Startup> startup;
+    private final OdiEvent<Shutdown> shutdown;
+
+    OdiLifecycleEvents(OdiEventFactory eventFactory) {
+        this.requestInitialized = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, Initialized.Literal.REQUEST);
+        this.requestBeforeDestroyed = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, BeforeDestroyed.Literal.REQUEST);
+        this.requestDestroyed = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, Destroyed.Literal.REQUEST);
+        this.applicationInitialized = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, Initialized.Literal.APPLICATION);
+        this.applicationBeforeDestroyed = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, BeforeDestroyed.Literal.APPLICATION);
+        this.applicationDestroyed = eventFactory.buildLifecycleEvent(Argument.OBJECT_ARGUMENT, Destroyed.Literal.APPLICATION);
+        this.startup = eventFactory.buildLifecycleEvent(Argument.of(Startup.class));
+        this.shutdown = eventFactory.buildLifecycleEvent(Argument.of(Shutdown.class));
+    }
+
+    /**
+     * Fires the {@link Initialized} event of the request context.
+     *
+     * @param payload The payload
+     */
+    public void fireRequestInitialized(Object payload) {
+        fire(requestInitialized, payload);
+    }
+
+    /**
+     * Fires the {@link BeforeDestroyed} event of the request context.
+     *
+     * @param payload The payload
+     */
+    public void fireRequestBeforeDestroyed(Object payload) {
+        fire(requestBeforeDestroyed, payload);
+    }
+
+    /**
+     * Fires the {@link Destroyed} event of the request context.
+     *
+     * @param payload The payload
+     */
+    public void fireRequestDestroyed(Object payload) {
+        fire(requestDestroyed, payload);
+    }
+
+    void fireApplicationInitialized(Object payload) {
+        fire(applicationInitialized, payload);
+    }
+
+    void fireApplicationBeforeDestroyed(Object payload) {
+        fire(applicationBeforeDestroyed, payload);
+    }
+
+    void fireApplicationDestroyed(Object payload) {
+        fire(applicationDestroyed, payload);
+    }
+
+    void fireStartup() {
+        fire(startup, Startup.class, Startup::new);
+    }
+
+    void fireShutdown() {
+        fire(shutdown, Shutdown.class, Shutdown::new);
+    }
+
+    private static void fire(OdiEvent<Object> event, Object payload) {
+        if (event.hasObserverMethods(payload.getClass())) {
+            event.fire(payload);
+        }
+    }
+
+    private static <T> void fire(OdiEvent<T> event, Class<T> payloadType, Supplier<T> payload) {
+        if (event.hasObserverMethods(payloadType)) {
+            event.fire(payload.get());
+        }
+    }
+}
@@ -42,4 +42,29 @@ public interface OdiObserverMethod<T> extends ObserverMethod<T> {
     @Nullable
     Qualifier<T> getObservedQualifier();
 
+    /**
+     * Returns the raw type the observer method is indexed by in the observer method registry.
+     * @return The observed raw type
+     */
+    default Class<?> getObservedRawType() {
+        return getObservedArgument().getType();
+    }
+
+    /**
+     * Returns whether the asynchronous observer method should be notified on a virtual thread.
+     * @return true if the observer method should be notified on a virtual thread
+     */
+    default boolean isVirtualThread() {
+        return false;
+    }
+
+    /**
+     * Returns the lane the asynchronous observer method is notified in.
+     * @return The lane or null for the default lane
+     */
+    @Nullable
+    default String getLane() {
+        return null;
+    }
+
 }
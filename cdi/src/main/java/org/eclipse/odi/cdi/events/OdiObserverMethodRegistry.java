@@ -30,11 +30,14 @@ import org.eclipse.odi.cdi.OdiTypeUtils;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The registry of all observed methods in the context.
@@ -45,22 +48,54 @@ public final class OdiObserverMethodRegistry {
 
     private static final io.micronaut.context.Qualifier DEFAULT_QUALIFIER = Qualifiers.byAnnotation(AnnotationMetadata.EMPTY_METADATA, Default.class);
 
-    private final List<OdiObserverMethod<?>> observerMethods = new ArrayList<>();
+    private static final Comparator<IndexedObserverMethod> DISPATCH_ORDER = Comparator
+            .comparingInt((IndexedObserverMethod indexed) -> indexed.observerMethod().getPriority())
+            .thenComparingInt(IndexedObserverMethod::sequence);
+
+    // Registrations in the registration order, guarded by this
+    private final List<OdiObserverMethod<?>> registeredObserverMethods = new ArrayList<>();
+    // Built from the registrations on the first lookup, dropped whenever an observer method is registered
+    @Nullable
+    private volatile DispatchIndex dispatchIndex;
+    private volatile int version;
 
     /**
      * Registers an observed ODI method.
      *
      * @param observerMethod The observer method.
      */
-    public void register(OdiObserverMethod<?> observerMethod) {
-        observerMethods.add(observerMethod);
+    public synchronized void register(OdiObserverMethod<?> observerMethod) {
+        registeredObserverMethods.add(observerMethod);
+        dispatchIndex = null;
+        version++;
+    }
+
+    /**
+     * @return The version of the registry, changes whenever an observer method is registered.
+     */
+    int getVersion() {
+        return version;
     }
 
     /**
      * @return A list of observed ODI methods.
      */
     public List<OdiObserverMethod<?>> getObserverMethods() {
-        return observerMethods;
+        return dispatchIndex().observerMethods();
+    }
+
+    private DispatchIndex dispatchIndex() {
+        DispatchIndex index = dispatchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = dispatchIndex;
+                if (index == null) {
+                    index = DispatchIndex.build(registeredObserverMethods);
+                    dispatchIndex = index;
+                }
+            }
+        }
+        return index;
     }
 
     /**
@@ -73,11 +108,17 @@ public final class OdiObserverMethodRegistry {
      * @return A list of observer methods
      */
     public <K extends T, T> List<ObserverMethod<K>> findListOfObserverMethods(Argument<T> argument, @Nullable Qualifier<T> qualifier) {
-        // TODO: caching
-        List<ObserverMethod<?>> list = new ArrayList<>();
-        collectMethods(argument, qualifier, list);
-        list.sort(Comparator.comparing(ObserverMethod::getPriority));
-        return (List) list;
+        DispatchIndex index = dispatchIndex();
+        return (List) index.resolutionCache().computeIfAbsent(new ResolutionKey(argument, qualifier), key -> {
+            List<IndexedObserverMethod> candidates = index.findCandidates(argument.getType());
+            List<ObserverMethod<?>> list = new ArrayList<>(candidates.size());
+            for (IndexedObserverMethod candidate : candidates) {
+                if (matches(candidate.observerMethod(), argument, qualifier)) {
+                    list.add(candidate.observerMethod());
+                }
+            }
+            return List.copyOf(list);
+        });
     }
 
     /**
@@ -93,26 +134,135 @@ public final class OdiObserverMethodRegistry {
         return new LinkedHashSet<>(findListOfObserverMethods(argument, qualifier));
     }
 
-    private <T> void collectMethods(Argument<T> argument, Qualifier<T> qualifier, Collection<ObserverMethod<?>> method) {
-        for (OdiObserverMethod<?> observer : observerMethods) {
-            if (!matchesObservedType(observer.getObservedType(), observer.getObservedArgument(), argument)) {
-                continue;
+    private <T> boolean matches(OdiObserverMethod<?> observer, Argument<T> argument, @Nullable Qualifier<T> qualifier) {
+        if (!matchesObservedType(observer.getObservedType(), observer.getObservedArgument(), argument)) {
+            return false;
+        }
+        Qualifier observedQualifier = observer.getObservedQualifier();
+        if (observedQualifier != null) {
+            if (observedQualifier == DefaultQualifier.INSTANCE) {
+                return true;
+            }
+            if (qualifier == null) {
+                return observedQualifier.contains(DEFAULT_QUALIFIER) || observedQualifier.contains(AnyQualifier.INSTANCE);
             }
-            Qualifier observedQualifier = observer.getObservedQualifier();
-            if (observedQualifier != null) {
-                if (observedQualifier == DefaultQualifier.INSTANCE) {
-                    method.add(observer);
-                    continue;
+            return qualifier.contains(observedQualifier) || observedQualifier.contains(AnyQualifier.INSTANCE);
+        }
+        return true;
+    }
+
+    /**
+     * The registered observer method with its registration sequence, used to keep the registration order
+     * of the observer methods with the same priority.
+     *
+     * @param observerMethod The observer method
+     * @param sequence       The registration sequence
+     */
+    private record IndexedObserverMethod(OdiObserverMethod<?> observerMethod, int sequence) {
+    }
+
+    /**
+     * The observer methods indexed by observed raw type, each list sorted once in the dispatch order.
+     *
+     * @param observerMethods           The observer methods in the registration order
+     * @param observerMethodsByRawType  The observer methods by observed raw type
+     * @param unindexedObserverMethods  The observer methods of primitive or array types, always matched
+     * @param resolutionCache           The resolved observer methods by event type and qualifier
+     */
+    private record DispatchIndex(List<OdiObserverMethod<?>> observerMethods,
+                                 Map<Class<?>, List<IndexedObserverMethod>> observerMethodsByRawType,
+                                 List<IndexedObserverMethod> unindexedObserverMethods,
+                                 Map<ResolutionKey, List<ObserverMethod<?>>> resolutionCache) {
+
+        static DispatchIndex build(List<OdiObserverMethod<?>> registeredObserverMethods) {
+            Map<Class<?>, List<IndexedObserverMethod>> byRawType = new HashMap<>();
+            List<IndexedObserverMethod> unindexed = new ArrayList<>();
+            for (int sequence = 0; sequence < registeredObserverMethods.size(); sequence++) {
+                OdiObserverMethod<?> observerMethod = registeredObserverMethods.get(sequence);
+                IndexedObserverMethod indexed = new IndexedObserverMethod(observerMethod, sequence);
+                Class<?> observedRawType = observerMethod.getObservedRawType();
+                if (observedRawType.isPrimitive() || observedRawType.isArray()) {
+                    unindexed.add(indexed);
+                } else {
+                    byRawType.computeIfAbsent(observedRawType, type -> new ArrayList<>()).add(indexed);
                 }
-                if (qualifier == null) {
-                    if (!observedQualifier.contains(DEFAULT_QUALIFIER) && !observedQualifier.contains(AnyQualifier.INSTANCE)) {
-                        continue;
-                    }
-                } else if (!qualifier.contains(observedQualifier) && !observedQualifier.contains(AnyQualifier.INSTANCE)) {
-                    continue;
+            }
+            Map<Class<?>, List<IndexedObserverMethod>> sortedByRawType = new HashMap<>(byRawType.size());
+            byRawType.forEach((type, observers) -> {
+                observers.sort(DISPATCH_ORDER);
+                sortedByRawType.put(type, List.copyOf(observers));
+            });
+            unindexed.sort(DISPATCH_ORDER);
+            return new DispatchIndex(
+                    List.copyOf(registeredObserverMethods),
+                    sortedByRawType,
+                    List.copyOf(unindexed),
+                    new ConcurrentHashMap<>()
+            );
+        }
+
+        /**
+         * Finds the observer methods whose observed raw type is the event raw type or one of its supertypes.
+         *
+         * @param eventRawType The event raw type
+         * @return The candidate observer methods in the dispatch order
+         */
+        List<IndexedObserverMethod> findCandidates(Class<?> eventRawType) {
+            List<IndexedObserverMethod> candidates = new ArrayList<>(unindexedObserverMethods);
+            if (eventRawType.isPrimitive() || eventRawType.isArray()) {
+                // Matched by boxing or array covariance, fall back to all the observer methods
+                observerMethodsByRawType.values().forEach(candidates::addAll);
+            } else {
+                Set<Class<?>> visited = new HashSet<>();
+                collectCandidates(eventRawType, visited, candidates);
+                // Interfaces do not extend Object
+                if (visited.add(Object.class)) {
+                    addCandidates(Object.class, candidates);
                 }
             }
-            method.add(observer);
+            candidates.sort(DISPATCH_ORDER);
+            return candidates;
+        }
+
+        private void collectCandidates(@Nullable Class<?> type, Set<Class<?>> visited, List<IndexedObserverMethod> candidates) {
+            if (type == null || !visited.add(type)) {
+                return;
+            }
+            addCandidates(type, candidates);
+            collectCandidates(type.getSuperclass(), visited, candidates);
+            for (Class<?> interfaceType : type.getInterfaces()) {
+                collectCandidates(interfaceType, visited, candidates);
+            }
+        }
+
+        private void addCandidates(Class<?> type, List<IndexedObserverMethod> candidates) {
+            List<IndexedObserverMethod> observers = observerMethodsByRawType.get(type);
+            if (observers != null) {
+                candidates.addAll(observers);
+            }
+        }
+    }
+
+    /**
+     * The observer resolution cache key. The event argument is reduced to the type the observers are matched against.
+     *
+     * @param rawType   The raw event type
+     * @param eventType The resolved event type
+     * @param qualifier The qualifier
+     */
+    private record ResolutionKey(Class<?> rawType, Type eventType, @Nullable Qualifier<?> qualifier) {
+
+        ResolutionKey(Argument<?> argument, @Nullable Qualifier<?> qualifier) {
+            this(argument.getType(), resolveEventType(argument), qualifier);
+        }
+
+        private static Type resolveEventType(Argument<?> argument) {
+            if (argument.getTypeParameters().length == 0
+                    && !argument.isTypeVariable()
+                    && argument.getAnnotationMetadata().isEmpty()) {
+                return argument.getType();
+            }
+            return OdiTypeUtils.getArgumentType(argument);
         }
     }
 
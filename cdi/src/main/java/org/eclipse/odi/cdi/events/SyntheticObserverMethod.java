@@ -25,7 +25,6 @@ import java.util.stream.Collectors;
 
 import org.eclipse.odi.cdi.DefaultQualifier;
 import org.eclipse.odi.cdi.OdiBeanContainer;
-import org.eclipse.odi.cdi.OdiBeanImpl;
 import org.eclipse.odi.cdi.OdiUtils;
 import org.eclipse.odi.cdi.annotation.ObservesMethod;
 import io.micronaut.context.BeanContext;
@@ -110,7 +109,7 @@ final class SyntheticObserverMethod<B, E> extends AbstractOdiObserverMethod<E> {
     @Override
     public Bean<?> getDeclaringBean() {
         // undefined for synthetic observers
-        return new OdiBeanImpl<>(beanContext, syntheticObserverBeanDefinition);
+        return beanContainer.getBean(syntheticObserverBeanDefinition);
     }
 
     @Override
@@ -23,34 +23,80 @@ import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.beans.BeanConstructor;
+import io.micronaut.core.io.service.SoftServiceLoader;
 import io.micronaut.core.type.Executable;
+import io.micronaut.inject.BeanDefinition;
 import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import org.eclipse.odi.cdi.OdiInterceptorChain;
 import org.eclipse.odi.cdi.annotation.DisposerMethod;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CDI specific interceptor registry that supports custom interceptor order.
+ *
+ * <p>The resolution is cached per method, or constructor, and interceptor kind. Only the positions of the selected
+ * interceptors among the candidates are kept, in the chain order, together with the candidate bean definitions: the
+ * cached order is applied to the interceptor instances of every call offering the same bean definitions, so prototype
+ * interceptor instances are neither retained nor shared between proxies.</p>
+ *
+ * <p>When an {@link OdiInterceptorChain} was generated at build time for the resolved around-invoke interceptors, the
+ * interceptors are replaced by a single interceptor that runs the generated chain.</p>
  */
 @Primary
 @Singleton
 public class CdiInterceptorRegistry implements InterceptorRegistry {
 
     private final DefaultInterceptorRegistry defaultInterceptorRegistry;
+    private final Map<ChainKey, InterceptorChain> interceptorChains = new ConcurrentHashMap<>();
+    // Generated chains by interceptor class names in the chain order
+    private final Map<List<String>, OdiInterceptorChain> generatedChains;
 
     public CdiInterceptorRegistry(BeanContext beanContext) {
         this.defaultInterceptorRegistry = new DefaultInterceptorRegistry(beanContext);
+        this.generatedChains = loadGeneratedChains(beanContext.getClassLoader());
+    }
+
+    private static Map<List<String>, OdiInterceptorChain> loadGeneratedChains(ClassLoader classLoader) {
+        Map<List<String>, OdiInterceptorChain> chains = new HashMap<>();
+        for (OdiInterceptorChain chain : SoftServiceLoader.load(OdiInterceptorChain.class, classLoader).collectAll()) {
+            chains.putIfAbsent(List.of(chain.getInterceptorTypes()), chain);
+        }
+        return Map.copyOf(chains);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Interceptor<T, ?>[] resolveInterceptors(Executable<T, ?> method,
                                                        Collection<BeanRegistration<Interceptor<T, ?>>> interceptors,
                                                        InterceptorKind interceptorKind) {
+        ChainKey key = new ChainKey(method, interceptorKind);
+        InterceptorChain chain = interceptorChains.get(key);
+        if (chain != null && chain.matches(interceptors)) {
+            return (Interceptor<T, ?>[]) chain.apply(interceptors);
+        }
+        Interceptor<T, ?>[] resolvedInterceptors = resolveAroundInterceptors(method, interceptors, interceptorKind);
+        OdiInterceptorChain generatedChain = interceptorKind == InterceptorKind.AROUND
+                ? findGeneratedChain(method, resolvedInterceptors)
+                : null;
+        cacheChain(key, interceptors, resolvedInterceptors, generatedChain);
+        return (Interceptor<T, ?>[]) withGeneratedChain(resolvedInterceptors, generatedChain);
+    }
+
+    private <T> Interceptor<T, ?>[] resolveAroundInterceptors(Executable<T, ?> method,
+                                                              Collection<BeanRegistration<Interceptor<T, ?>>> interceptors,
+                                                              InterceptorKind interceptorKind) {
         Interceptor<T, ?>[] resolvedInterceptors = defaultInterceptorRegistry.resolveInterceptors(method, interceptors, interceptorKind);
         if (resolvedInterceptors.length == 0
                 && interceptorKind == InterceptorKind.AROUND
@@ -98,8 +144,21 @@ public class CdiInterceptorRegistry implements InterceptorRegistry {
         return false;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Interceptor<T, T>[] resolveConstructorInterceptors(BeanConstructor<T> constructor, Collection<BeanRegistration<Interceptor<T, T>>> interceptors) {
+        ChainKey key = new ChainKey(constructor, InterceptorKind.AROUND_CONSTRUCT);
+        InterceptorChain chain = interceptorChains.get(key);
+        if (chain != null && chain.matches(interceptors)) {
+            return (Interceptor<T, T>[]) chain.apply(interceptors);
+        }
+        Interceptor<T, T>[] resolvedInterceptors = resolveAroundConstructInterceptors(constructor, interceptors);
+        cacheChain(key, interceptors, resolvedInterceptors, null);
+        return resolvedInterceptors;
+    }
+
+    private <T> Interceptor<T, T>[] resolveAroundConstructInterceptors(BeanConstructor<T> constructor,
+                                                                       Collection<BeanRegistration<Interceptor<T, T>>> interceptors) {
         Interceptor<T, T>[] resolvedInterceptors = defaultInterceptorRegistry.resolveConstructorInterceptors(constructor, interceptors);
         resolvedInterceptors = selectInterceptorsForKind(resolvedInterceptors, InterceptorKind.AROUND_CONSTRUCT);
         sortInterceptors(resolvedInterceptors);
@@ -155,4 +214,120 @@ public class CdiInterceptorRegistry implements InterceptorRegistry {
             return Integer.compare(o1.getOrder(), o2.getOrder());
         });
     }
+
+    /**
+     * Finds the chain generated at build time for the resolved around-invoke interceptors. Only a chain of CDI
+     * interceptors that each declare a single around-invoke method can be replaced.
+     *
+     * @param method               The intercepted method
+     * @param resolvedInterceptors The resolved and ordered interceptors
+     * @return The generated chain or null
+     */
+    @Nullable
+    private OdiInterceptorChain findGeneratedChain(Executable<?, ?> method, Interceptor<?, ?>[] resolvedInterceptors) {
+        if (generatedChains.isEmpty()
+                || resolvedInterceptors.length == 0
+                || method.getAnnotationMetadata().hasAnnotation(AroundInvoke.class)) {
+            return null;
+        }
+        List<String> interceptorTypes = new ArrayList<>(resolvedInterceptors.length);
+        for (Interceptor<?, ?> interceptor : resolvedInterceptors) {
+            if (!(interceptor instanceof JakartaInterceptorAdapter<?> adapter) || !adapter.isChainable()) {
+                return null;
+            }
+            interceptorTypes.add(adapter.getInterceptorTypeName());
+        }
+        return generatedChains.get(interceptorTypes);
+    }
+
+    private static Interceptor<?, ?>[] withGeneratedChain(Interceptor<?, ?>[] interceptors,
+                                                          @Nullable OdiInterceptorChain generatedChain) {
+        if (generatedChain == null) {
+            return interceptors;
+        }
+        JakartaInterceptorAdapter<?>[] adapters = new JakartaInterceptorAdapter<?>[interceptors.length];
+        for (int i = 0; i < interceptors.length; i++) {
+            adapters[i] = (JakartaInterceptorAdapter<?>) interceptors[i];
+        }
+        return new Interceptor<?, ?>[] {new GeneratedChainInterceptor(adapters, generatedChain)};
+    }
+
+    private void cacheChain(ChainKey key,
+                            Collection<? extends BeanRegistration<?>> candidates,
+                            Interceptor<?, ?>[] resolvedInterceptors,
+                            @Nullable OdiInterceptorChain generatedChain) {
+        Object[] candidateBeans = new Object[candidates.size()];
+        BeanDefinition<?>[] candidateDefinitions = new BeanDefinition<?>[candidateBeans.length];
+        int i = 0;
+        for (BeanRegistration<?> candidate : candidates) {
+            candidateBeans[i] = candidate.getBean();
+            candidateDefinitions[i++] = candidate.getBeanDefinition();
+        }
+        int[] order = new int[resolvedInterceptors.length];
+        for (int j = 0; j < resolvedInterceptors.length; j++) {
+            order[j] = indexOf(candidateBeans, resolvedInterceptors[j]);
+            if (order[j] < 0) {
+                // Not one of the candidates, the chain cannot be replayed
+                return;
+            }
+        }
+        interceptorChains.put(key, new InterceptorChain(candidateDefinitions, order, generatedChain));
+    }
+
+    private static int indexOf(Object[] candidateBeans, Object interceptor) {
+        for (int i = 0; i < candidateBeans.length; i++) {
+            if (candidateBeans[i] == interceptor) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The cache key of an interceptor chain.
+     *
+     * @param executable The method or constructor
+     * @param kind       The interceptor kind
+     */
+    private record ChainKey(Object executable, InterceptorKind kind) {
+    }
+
+    /**
+     * The resolved interceptor chain, independent of the interceptor instances.
+     *
+     * @param candidateDefinitions The bean definitions of the candidates the chain was resolved from
+     * @param order                The positions of the selected candidates in the chain order
+     * @param generatedChain       The chain generated at build time for the selected candidates or null
+     */
+    private record InterceptorChain(BeanDefinition<?>[] candidateDefinitions,
+                                    int[] order,
+                                    @Nullable OdiInterceptorChain generatedChain) {
+
+        boolean matches(Collection<? extends BeanRegistration<?>> candidates) {
+            if (candidates.size() != candidateDefinitions.length) {
+                return false;
+            }
+            Iterator<? extends BeanRegistration<?>> iterator = candidates.iterator();
+            for (BeanDefinition<?> candidateDefinition : candidateDefinitions) {
+                if (!iterator.next().getBeanDefinition().equals(candidateDefinition)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @SuppressWarnings("rawtypes")
+        Interceptor<?, ?>[] apply(Collection<? extends BeanRegistration<? extends Interceptor<?, ?>>> candidates) {
+            Interceptor<?, ?>[] candidateBeans = new Interceptor[candidates.size()];
+            int i = 0;
+            for (BeanRegistration<? extends Interceptor<?, ?>> candidate : candidates) {
+                candidateBeans[i++] = candidate.getBean();
+            }
+            Interceptor<?, ?>[] interceptors = new Interceptor[order.length];
+            for (int j = 0; j < order.length; j++) {
+                interceptors[j] = candidateBeans[order[j]];
+            }
+            return withGeneratedChain(interceptors, generatedChain);
+        }
+    }
 }
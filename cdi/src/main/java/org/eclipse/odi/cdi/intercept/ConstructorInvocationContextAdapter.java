@@ -133,6 +133,11 @@ final class ConstructorInvocationContextAdapter<B> extends InvocationContextAdap
         return constructor.getAnnotationMetadata();
     }
 
+    @Override
+    protected Object getInterceptorBindingKey() {
+        return ((ConstructorInvocationContext<?>) invocationContext).getConstructor();
+    }
+
     @Override
     public Object invoke(B interceptor) {
         super.invoke(interceptor);
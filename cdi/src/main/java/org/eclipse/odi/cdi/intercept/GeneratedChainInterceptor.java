@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.annotation.Internal;
+import org.eclipse.odi.cdi.OdiInterceptorChain;
+
+/**
+ * Intercepts a method with a build time generated {@link OdiInterceptorChain} in place of the chain of
+ * {@link JakartaInterceptorAdapter}s it was generated for.
+ */
+@Internal
+final class GeneratedChainInterceptor implements MethodInterceptor<Object, Object> {
+
+    private final JakartaInterceptorAdapter<?>[] adapters;
+    private final OdiInterceptorChain chain;
+
+    /**
+     * @param adapters The adapters of the interceptors, in the chain order
+     * @param chain    The generated chain
+     */
+    GeneratedChainInterceptor(JakartaInterceptorAdapter<?>[] adapters, OdiInterceptorChain chain) {
+        this.adapters = adapters;
+        this.chain = chain;
+    }
+
+    @Override
+    public int getOrder() {
+        return adapters[0].getOrder();
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        Object target = context.getTarget();
+        Object[] interceptors = new Object[adapters.length];
+        for (int i = 0; i < adapters.length; i++) {
+            interceptors[i] = adapters[i].ensureInterceptorBean(target);
+        }
+        return new GeneratedChainInvocationContext(this, context, chain, interceptors).proceed();
+    }
+
+    /**
+     * @return The adapter of the first interceptor of the chain
+     */
+    JakartaInterceptorAdapter<?> firstAdapter() {
+        return adapters[0];
+    }
+}
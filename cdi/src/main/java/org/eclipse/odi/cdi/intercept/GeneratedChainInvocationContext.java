@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import io.micronaut.aop.InterceptorKind;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.inject.ExecutableMethod;
+import org.eclipse.odi.cdi.OdiInterceptorChain;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * The invocation context of a generated interceptor chain. Each {@link #proceed()} calls the around-invoke method of
+ * the next interceptor directly, the last one proceeds with the Micronaut invocation.
+ */
+final class GeneratedChainInvocationContext extends InvocationContextAdapter<Object> {
+
+    @SuppressWarnings("rawtypes")
+    private static final ExecutableMethod[] NO_METHODS = new ExecutableMethod[0];
+
+    private final GeneratedChainInterceptor chainInterceptor;
+    private final OdiInterceptorChain chain;
+    private final Object[] interceptors;
+    private int index;
+
+    @SuppressWarnings("unchecked")
+    GeneratedChainInvocationContext(GeneratedChainInterceptor chainInterceptor,
+                                    MethodInvocationContext<Object, Object> invocationContext,
+                                    OdiInterceptorChain chain,
+                                    Object[] interceptors) {
+        super(chainInterceptor, invocationContext, NO_METHODS, InterceptorKind.AROUND);
+        this.chainInterceptor = chainInterceptor;
+        this.chain = chain;
+        this.interceptors = interceptors;
+    }
+
+    @Override
+    public Object proceed() {
+        if (index >= interceptors.length) {
+            return invocationContextProceed();
+        }
+        int current = index++;
+        try {
+            return chain.invoke(current, interceptors[current], this);
+        } catch (Exception e) {
+            // Rethrown as is, like the executable methods the chain replaces
+            throw GeneratedChainInvocationContext.<RuntimeException>sneakyThrow(e);
+        }
+    }
+
+    @Override
+    public Set<Annotation> getInterceptorBindings() {
+        return chainInterceptor.firstAdapter().resolveInvocationInterceptorBindings(
+                getInterceptorBindingKey(),
+                this::getInterceptorBindingMetadata
+        );
+    }
+
+    @Override
+    protected Object resolveContextualTarget(Object target) {
+        return chainInterceptor.firstAdapter().resolveContextualTarget(target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import io.micronaut.aop.InterceptedProxy;
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Singleton;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The intercepted target instances of a container with their {@link TargetInterceptors}. A proxy and its intercepted
+ * target are both mapped to the same interceptor instances.
+ *
+ * <p>Lookups do not lock. Associating and removing targets is serialized, so that a proxy and its intercepted
+ * target can never end up with different interceptor instances.</p>
+ *
+ * <p>The targets are weakly referenced: the association of a target that is never destroyed, for example an
+ * unreleased dependent bean, is dropped together with its interceptor instances once the target is collected.</p>
+ */
+@Internal
+@Singleton
+final class InterceptedTargets {
+
+    private final Map<TargetKey, TargetInterceptors> targets = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedTargets = new ReferenceQueue<>();
+
+    /**
+     * Finds the interceptor instances associated with the target or with the target of the proxy.
+     *
+     * @param target The target
+     * @return The interceptor instances or null
+     */
+    @Nullable
+    TargetInterceptors find(@NonNull Object target) {
+        expungeCollectedTargets();
+        TargetInterceptors targetInterceptors = targets.get(new LookupKey(target));
+        if (targetInterceptors == null && target instanceof InterceptedProxy<?> interceptedProxy) {
+            Object interceptedTarget = interceptedProxy.interceptedTarget();
+            if (interceptedTarget != null) {
+                targetInterceptors = targets.get(new LookupKey(interceptedTarget));
+            }
+        }
+        return targetInterceptors;
+    }
+
+    /**
+     * Finds or creates the interceptor instances associated with the target.
+     *
+     * @param target The target
+     * @return The interceptor instances
+     */
+    @NonNull
+    TargetInterceptors findOrCreate(@NonNull Object target) {
+        TargetInterceptors targetInterceptors = find(target);
+        if (targetInterceptors != null) {
+            return targetInterceptors;
+        }
+        synchronized (this) {
+            targetInterceptors = find(target);
+            if (targetInterceptors == null) {
+                targetInterceptors = new TargetInterceptors();
+                targets.put(new WeakTargetKey(target, collectedTargets), targetInterceptors);
+            }
+            if (target instanceof InterceptedProxy<?> interceptedProxy) {
+                Object interceptedTarget = interceptedProxy.interceptedTarget();
+                if (interceptedTarget != null && interceptedTarget != target) {
+                    // The holder found through the intercepted target is linked with the proxy as well
+                    targetInterceptors.setContextualTarget(target);
+                    targets.putIfAbsent(new WeakTargetKey(target, collectedTargets), targetInterceptors);
+                    targets.putIfAbsent(new WeakTargetKey(interceptedTarget, collectedTargets), targetInterceptors);
+                }
+            }
+            return targetInterceptors;
+        }
+    }
+
+    /**
+     * Resolves the contextual instance of an intercepted target, the proxy if the target is proxied.
+     *
+     * @param target The target
+     * @return The contextual target
+     */
+    Object resolveContextualTarget(Object target) {
+        if (target == null) {
+            return null;
+        }
+        TargetInterceptors targetInterceptors = targets.get(new LookupKey(target));
+        if (targetInterceptors != null) {
+            Object contextual = targetInterceptors.getContextualTarget();
+            if (contextual != null) {
+                return contextual;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Removes all the associations of the target, its contextual instance and its intercepted target.
+     *
+     * @param target The target
+     * @return The interceptor instances that were associated
+     */
+    synchronized Set<BeanRegistration<?>> remove(@NonNull Object target) {
+        expungeCollectedTargets();
+        Set<BeanRegistration<?>> registrations = Collections.newSetFromMap(new IdentityHashMap<>());
+        TargetInterceptors targetInterceptors = targets.remove(new LookupKey(target));
+        if (targetInterceptors != null) {
+            unlink(targetInterceptors, registrations);
+        }
+        if (target instanceof InterceptedProxy<?> interceptedProxy) {
+            Object interceptedTarget = interceptedProxy.interceptedTarget();
+            if (interceptedTarget != null) {
+                TargetInterceptors interceptedTargetInterceptors = targets.remove(new LookupKey(interceptedTarget));
+                if (interceptedTargetInterceptors != null) {
+                    unlink(interceptedTargetInterceptors, registrations);
+                }
+            }
+        }
+        return registrations;
+    }
+
+    /**
+     * Removes the interceptor registration of the target, and the associations of the target once no interceptor
+     * is left.
+     *
+     * @param target             The target
+     * @param targetInterceptors The interceptor instances of the target
+     * @param interceptorName    The interceptor bean definition name
+     * @return The removed registration or null
+     */
+    @Nullable
+    synchronized BeanRegistration<?> remove(@NonNull Object target,
+                                            TargetInterceptors targetInterceptors,
+                                            String interceptorName) {
+        BeanRegistration<?> registration = targetInterceptors.remove(interceptorName);
+        if (targetInterceptors.isEmpty()) {
+            targets.remove(new LookupKey(target), targetInterceptors);
+            if (target instanceof InterceptedProxy<?> interceptedProxy) {
+                Object interceptedTarget = interceptedProxy.interceptedTarget();
+                if (interceptedTarget != null) {
+                    targets.remove(new LookupKey(interceptedTarget), targetInterceptors);
+                }
+            }
+            unlink(targetInterceptors, null);
+        }
+        return registration;
+    }
+
+    /**
+     * Removes every association.
+     */
+    synchronized void clear() {
+        targets.clear();
+        expungeCollectedTargets();
+    }
+
+    private void unlink(TargetInterceptors targetInterceptors, @Nullable Set<BeanRegistration<?>> registrations) {
+        Object contextual = targetInterceptors.getContextualTarget();
+        if (contextual != null) {
+            targets.remove(new LookupKey(contextual), targetInterceptors);
+        }
+        targetInterceptors.unlink(registrations);
+    }
+
+    /**
+     * Drops the associations of the collected targets. Lookups and removals expunge them as well.
+     */
+    void expungeCollectedTargets() {
+        Reference<?> collectedTarget;
+        while ((collectedTarget = collectedTargets.poll()) != null) {
+            targets.remove((WeakTargetKey) collectedTarget);
+        }
+    }
+
+    /**
+     * Clears the weak keys of the target and queues them as if the target was collected, so that the next expunge
+     * drops its associations without waiting for the garbage collector.
+     *
+     * @param target The target
+     */
+    void markCollected(@NonNull Object target) {
+        for (TargetKey key : targets.keySet()) {
+            if (key instanceof WeakTargetKey weakKey && weakKey.get() == target) {
+                weakKey.enqueue();
+            }
+        }
+    }
+
+    /**
+     * @return The number of associated targets, proxies and intercepted targets counted separately
+     */
+    int size() {
+        return targets.size();
+    }
+
+    /**
+     * Identity based key of a target instance.
+     */
+    private interface TargetKey {
+
+        /**
+         * @return The target or null if it was collected
+         */
+        @Nullable
+        Object target();
+
+        static boolean equals(TargetKey key, Object o) {
+            if (key == o) {
+                return true;
+            }
+            if (o instanceof TargetKey other && key.hashCode() == other.hashCode()) {
+                Object target = key.target();
+                return target != null && target == other.target();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The key stored in the map, it does not prevent the target from being collected.
+     */
+    private static final class WeakTargetKey extends WeakReference<Object> implements TargetKey {
+        private final int hashCode;
+
+        WeakTargetKey(Object target, ReferenceQueue<Object> collectedTargets) {
+            super(target, collectedTargets);
+            this.hashCode = System.identityHashCode(target);
+        }
+
+        @Override
+        public Object target() {
+            return get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return TargetKey.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The key used to look up a target that is strongly referenced by the caller.
+     */
+    private static final class LookupKey implements TargetKey {
+        private final Object target;
+        private final int hashCode;
+
+        LookupKey(Object target) {
+            this.target = target;
+            this.hashCode = System.identityHashCode(target);
+        }
+
+        @Override
+        public Object target() {
+            return target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return TargetKey.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
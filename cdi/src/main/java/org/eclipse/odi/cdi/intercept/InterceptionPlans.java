@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.ExecutableMethod;
+import jakarta.inject.Singleton;
+import org.eclipse.odi.cdi.AnnotationUtils;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The per intercepted method state of the {@link JakartaInterceptorAdapter} instances of a container. The adapters are
+ * prototypes, one per intercepted instance, so the state resolved for a method is kept here to be shared by all of them.
+ */
+@Internal
+@Singleton
+final class InterceptionPlans {
+
+    // By intercepted method or constructor, the bindings do not depend on the interceptor
+    private final Map<Object, Set<Annotation>> invocationInterceptorBindings = new ConcurrentHashMap<>();
+    private final Map<AroundPlanKey, Object> aroundInvocationPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the interceptor bindings of an intercepted method or constructor.
+     *
+     * @param key      The intercepted method or constructor
+     * @param metadata The supplier of the binding metadata
+     * @return The interceptor bindings
+     */
+    Set<Annotation> resolveInvocationInterceptorBindings(Object key, Supplier<AnnotationMetadata> metadata) {
+        Set<Annotation> bindings = invocationInterceptorBindings.get(key);
+        if (bindings == null) {
+            bindings = invocationInterceptorBindings.computeIfAbsent(
+                    key,
+                    ignore -> AnnotationUtils.synthesizeInterceptorBindingAnnotations(metadata.get())
+            );
+        }
+        return bindings;
+    }
+
+    /**
+     * Resolves the plan of an interceptor for an around-invoke intercepted method.
+     *
+     * @param interceptorDefinition The interceptor bean definition
+     * @param method                The intercepted method
+     * @param planFactory           Creates the plan if the method was not intercepted yet
+     * @param <P>                   The plan type
+     * @return The plan
+     */
+    @SuppressWarnings("unchecked")
+    <P> P resolveAroundInvocationPlan(BeanDefinition<?> interceptorDefinition,
+                                      ExecutableMethod<?, ?> method,
+                                      Supplier<P> planFactory) {
+        AroundPlanKey key = new AroundPlanKey(interceptorDefinition, method);
+        Object plan = aroundInvocationPlans.get(key);
+        if (plan == null) {
+            plan = aroundInvocationPlans.computeIfAbsent(key, ignore -> planFactory.get());
+        }
+        return (P) plan;
+    }
+
+    /**
+     * The key of an around-invoke plan.
+     *
+     * @param interceptorDefinition The interceptor bean definition
+     * @param method                The intercepted method
+     */
+    private record AroundPlanKey(BeanDefinition<?> interceptorDefinition, ExecutableMethod<?, ?> method) {
+    }
+}
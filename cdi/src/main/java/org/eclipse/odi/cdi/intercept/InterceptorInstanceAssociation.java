@@ -17,6 +17,7 @@ package org.eclipse.odi.cdi.intercept;
 
 import io.micronaut.aop.InterceptorKind;
 import io.micronaut.context.BeanContext;
+import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.event.BeanCreatedEvent;
 import io.micronaut.context.event.BeanCreatedEventListener;
 import io.micronaut.context.event.BeanDestroyedEvent;
@@ -34,17 +35,29 @@ import org.eclipse.odi.cdi.annotation.OdiInterceptorAdapter;
 import org.eclipse.odi.cdi.annotation.reflect.AnnotationReflection;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Creates CDI interceptor instances when the intercepted target instance is created.
+ * Creates CDI interceptor instances when the intercepted target instance is created. The interceptors bound to a
+ * bean definition are resolved once, only the interceptor instances are created per target instance.
  */
 @Singleton
 final class InterceptorInstanceAssociation implements BeanCreatedEventListener<Object>, BeanDestroyedEventListener<Object> {
 
+    private final InterceptedTargets interceptedTargets;
+    private final Map<BeanDefinition<?>, List<JakartaInterceptorAdapter<?>>> boundInterceptors = new ConcurrentHashMap<>();
+    private volatile List<JakartaInterceptorAdapter<?>> interceptorAdapters;
+
+    InterceptorInstanceAssociation(InterceptedTargets interceptedTargets) {
+        this.interceptedTargets = interceptedTargets;
+    }
+
     @Override
     public Object onCreated(BeanCreatedEvent<Object> event) {
         Object bean = event.getBean();
@@ -65,13 +78,17 @@ final class InterceptorInstanceAssociation implements BeanCreatedEventListener<O
         return bean;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public void onDestroyed(BeanDestroyedEvent<Object> event) {
         Object bean = event.getBean();
         if (isInterceptorSupportBean(bean, event.getBeanDefinition())) {
             return;
         }
-        JakartaInterceptorAdapter.destroyInterceptorBeansForTarget(event.getSource(), bean);
+        BeanContext beanContext = event.getSource();
+        for (BeanRegistration<?> interceptor : interceptedTargets.remove(bean)) {
+            beanContext.destroyBean((BeanRegistration) interceptor);
+        }
     }
 
     private boolean isInterceptorSupportBean(Object bean, BeanDefinition<?> beanDefinition) {
@@ -81,23 +98,37 @@ final class InterceptorInstanceAssociation implements BeanCreatedEventListener<O
     }
 
     private void associateBean(BeanContext beanContext, Object bean, BeanDefinition<?> beanDefinition) {
+        List<JakartaInterceptorAdapter<?>> adapters = boundInterceptors.get(beanDefinition);
+        if (adapters == null) {
+            // Not computeIfAbsent: resolving the adapters can create beans and re-enter this listener
+            adapters = resolveBoundInterceptors(beanContext, beanDefinition);
+            boundInterceptors.put(beanDefinition, adapters);
+        }
+        for (JakartaInterceptorAdapter<?> adapter : adapters) {
+            adapter.ensureInterceptorBean(bean);
+        }
+    }
+
+    private List<JakartaInterceptorAdapter<?>> resolveBoundInterceptors(BeanContext beanContext, BeanDefinition<?> beanDefinition) {
+        Set<JakartaInterceptorAdapter<?>> adapters = new LinkedHashSet<>();
         AnnotationMetadata typeMetadata = beanDefinition.getAnnotationMetadata();
-        associateInterceptors(beanContext, bean, InterceptorKind.POST_CONSTRUCT, typeMetadata);
-        associateInterceptors(beanContext, bean, InterceptorKind.PRE_DESTROY, typeMetadata);
-        associateInterceptors(
+        collectInterceptors(beanContext, adapters, InterceptorKind.POST_CONSTRUCT, typeMetadata);
+        collectInterceptors(beanContext, adapters, InterceptorKind.PRE_DESTROY, typeMetadata);
+        collectInterceptors(
                 beanContext,
-                bean,
+                adapters,
                 InterceptorKind.AROUND_CONSTRUCT,
                 new AnnotationMetadataHierarchy(typeMetadata, beanDefinition.getConstructor().getAnnotationMetadata())
         );
         for (ExecutableMethod<?, ?> method : beanDefinition.getExecutableMethods()) {
-            associateInterceptors(
+            collectInterceptors(
                     beanContext,
-                    bean,
+                    adapters,
                     InterceptorKind.AROUND,
                     new AnnotationMetadataHierarchy(typeMetadata, method.getAnnotationMetadata())
             );
         }
+        return List.copyOf(adapters);
     }
 
     private boolean shouldSkipSelfAssociation(BeanCreatedEvent<Object> event, BeanDefinition<?> beanDefinition) {
@@ -118,23 +149,34 @@ final class InterceptorInstanceAssociation implements BeanCreatedEventListener<O
         return false;
     }
 
-    private void associateInterceptors(BeanContext beanContext,
-                                       Object target,
-                                       InterceptorKind kind,
-                                       AnnotationMetadata annotationMetadata) {
+    private void collectInterceptors(BeanContext beanContext,
+                                     Set<JakartaInterceptorAdapter<?>> adapters,
+                                     InterceptorKind kind,
+                                     AnnotationMetadata annotationMetadata) {
         Set<Annotation> requiredBindings = AnnotationUtils.synthesizeInterceptorBindingAnnotations(annotationMetadata);
         if (requiredBindings.isEmpty()) {
             return;
         }
-        for (BeanDefinition<jakarta.enterprise.inject.spi.Interceptor> interceptorDefinition : interceptorDefinitions(beanContext)) {
-            if (isSelfInterceptorDefinition(interceptorDefinition)) {
-                continue;
-            }
-            JakartaInterceptorAdapter<?> adapter = resolveInterceptorAdapter(beanContext, interceptorDefinition);
+        for (JakartaInterceptorAdapter<?> adapter : interceptorAdapters(beanContext)) {
             if (adapter.intercepts(kind) && interceptorBindingsMatch(adapter, requiredBindings)) {
-                adapter.ensureInterceptorBean(target);
+                adapters.add(adapter);
+            }
+        }
+    }
+
+    private List<JakartaInterceptorAdapter<?>> interceptorAdapters(BeanContext beanContext) {
+        List<JakartaInterceptorAdapter<?>> adapters = interceptorAdapters;
+        if (adapters == null) {
+            List<JakartaInterceptorAdapter<?>> resolved = new ArrayList<>();
+            for (BeanDefinition<jakarta.enterprise.inject.spi.Interceptor> interceptorDefinition : interceptorDefinitions(beanContext)) {
+                if (!isSelfInterceptorDefinition(interceptorDefinition)) {
+                    resolved.add(resolveInterceptorAdapter(beanContext, interceptorDefinition));
+                }
             }
+            adapters = List.copyOf(resolved);
+            interceptorAdapters = adapters;
         }
+        return adapters;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -22,8 +22,14 @@ import jakarta.inject.Singleton;
 @Singleton
 final class InterceptorInstanceCleanup implements ApplicationEventListener<ShutdownEvent> {
 
+    private final InterceptedTargets interceptedTargets;
+
+    InterceptorInstanceCleanup(InterceptedTargets interceptedTargets) {
+        this.interceptedTargets = interceptedTargets;
+    }
+
     @Override
     public void onApplicationEvent(ShutdownEvent event) {
-        JakartaInterceptorAdapter.clearTargetInterceptorBeans();
+        interceptedTargets.clear();
     }
 }
@@ -51,6 +51,7 @@ class InvocationContextAdapter<B> implements jakarta.interceptor.InvocationConte
     private int index;
     private B interceptor;
     private Set<Annotation> interceptorBindings;
+    private Map<String, Object> contextData;
 
     InvocationContextAdapter(Interceptor<?, ?> micronautInterceptor, InvocationContext<?, ?> invocationContext,
                              ExecutableMethod<B, Object>[] methods,
@@ -73,7 +74,15 @@ class InvocationContextAdapter<B> implements jakarta.interceptor.InvocationConte
 
     @Override
     public Object getTarget() {
-        return JakartaInterceptorAdapter.resolveContextualTarget(invocationContext.getTarget());
+        return resolveContextualTarget(invocationContext.getTarget());
+    }
+
+    /**
+     * @param target The intercepted target
+     * @return The contextual instance of the target
+     */
+    protected Object resolveContextualTarget(Object target) {
+        return ((JakartaInterceptorAdapter<?>) micronautInterceptor).resolveContextualTarget(target);
     }
 
     @Override
@@ -119,16 +128,26 @@ class InvocationContextAdapter<B> implements jakarta.interceptor.InvocationConte
 
     @Override
     public Map<String, Object> getContextData() {
-        final MutableConvertibleValues<Object> attributes = invocationContext.getAttributes();
-        return new ContextDataMap(attributes);
+        Map<String, Object> data = contextData;
+        if (data == null) {
+            data = new ContextDataMap(invocationContext.getAttributes());
+            contextData = data;
+        }
+        return data;
     }
 
     @Override
     public Set<Annotation> getInterceptorBindings() {
         Set<Annotation> bindings = interceptorBindings;
         if (bindings == null) {
-            AnnotationMetadata annotationMetadata = getInterceptorBindingMetadata();
-            bindings = AnnotationUtils.synthesizeInterceptorBindingAnnotations(annotationMetadata);
+            if (micronautInterceptor instanceof JakartaInterceptorAdapter<?> jakartaInterceptorAdapter) {
+                bindings = jakartaInterceptorAdapter.resolveInvocationInterceptorBindings(
+                        getInterceptorBindingKey(),
+                        this::getInterceptorBindingMetadata
+                );
+            } else {
+                bindings = AnnotationUtils.synthesizeInterceptorBindingAnnotations(getInterceptorBindingMetadata());
+            }
             interceptorBindings = bindings;
         }
         return bindings;
@@ -138,6 +157,16 @@ class InvocationContextAdapter<B> implements jakarta.interceptor.InvocationConte
         return invocationContext.getAnnotationMetadata();
     }
 
+    /**
+     * @return The key the interceptor bindings of the intercepted method are shared by
+     */
+    protected Object getInterceptorBindingKey() {
+        if (invocationContext instanceof MethodInvocationContext<?, ?> methodInvocationContext) {
+            return methodInvocationContext.getExecutableMethod();
+        }
+        return invocationContext.getAnnotationMetadata();
+    }
+
     @Override
     public <T extends Annotation> Set<T> getInterceptorBindings(Class<T> annotationType) {
         Set<T> resolved = new LinkedHashSet<>();
@@ -151,11 +180,12 @@ class InvocationContextAdapter<B> implements jakarta.interceptor.InvocationConte
 
     @Override
     public <T extends Annotation> T getInterceptorBinding(Class<T> annotationType) {
-        Set<T> bindings = getInterceptorBindings(annotationType);
-        if (bindings.isEmpty()) {
-            return null;
+        for (Annotation binding : getInterceptorBindings()) {
+            if (annotationType.isInstance(binding)) {
+                return annotationType.cast(binding);
+            }
         }
-        return bindings.iterator().next();
+        return null;
     }
 
     @Override
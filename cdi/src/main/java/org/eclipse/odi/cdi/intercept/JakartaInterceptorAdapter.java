@@ -25,6 +25,7 @@ import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
 import io.micronaut.context.BeanRegistration;
 import io.micronaut.context.BeanResolutionContext;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
@@ -39,14 +40,10 @@ import org.eclipse.odi.cdi.OdiBeanImpl;
 import org.eclipse.odi.cdi.annotation.DisposerMethod;
 
 import java.lang.annotation.Annotation;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -69,10 +66,8 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
     private ExecutableMethod<B, Object>[] postConstruct;
     private Set<Annotation> interceptorBindings;
     private boolean isSelfInterceptor;
-    private static final ReentrantReadWriteLock TARGET_INTERCEPTOR_INSTANCES_LOCK = new ReentrantReadWriteLock();
-    private static final Map<Object, Map<String, BeanRegistration<?>>> TARGET_INTERCEPTOR_INSTANCES =
-            new IdentityHashMap<>();
-    private static final Map<Object, Object> TARGET_CONTEXTUAL_INSTANCES = new IdentityHashMap<>();
+    private volatile InterceptedTargets interceptedTargets;
+    private volatile InterceptionPlans interceptionPlans;
 
     /**
      * Default constructor.
@@ -180,26 +175,22 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
 
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        if (context.hasAnnotation(AroundInvoke.class)) {
-            return context.proceed();
-        }
-        InterceptorKind interceptorKind = selectMethodKind(context);
-        final ExecutableMethod<B, Object>[] executableMethods = selectMethod(interceptorKind);
+        InvocationPlan<B> plan = findInvocationPlan(context);
+        final ExecutableMethod<B, Object>[] executableMethods = plan.methods();
 
         if (executableMethods == null) {
             return context.proceed();
         }
-        ExecutableMethod<B, Object> executableMethod = executableMethods[0];
         InvocationContextAdapter<B> ctx = new InvocationContextAdapter<>(
                 this,
                 context,
                 executableMethods,
-                interceptorKind
+                plan.kind()
         );
         B target = resolveInterceptorBean(context);
 
         try {
-            if (executableMethod.getReturnType().isVoid()) {
+            if (plan.returnsVoid()) {
                 ctx.invoke(target);
                 return context.getTarget();
             }
@@ -211,6 +202,29 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
         }
     }
 
+    private InvocationPlan<B> findInvocationPlan(MethodInvocationContext<Object, Object> context) {
+        if (context.getKind() != InterceptorKind.AROUND) {
+            return createInvocationPlan(context);
+        }
+        return interceptionPlans().resolveAroundInvocationPlan(
+                beanDefinition,
+                context.getExecutableMethod(),
+                () -> createInvocationPlan(context)
+        );
+    }
+
+    private InvocationPlan<B> createInvocationPlan(MethodInvocationContext<Object, Object> context) {
+        InterceptorKind interceptorKind = selectMethodKind(context);
+        if (context.hasAnnotation(AroundInvoke.class)) {
+            return new InvocationPlan<>(interceptorKind, null, false);
+        }
+        ExecutableMethod<B, Object>[] executableMethods = selectMethod(interceptorKind);
+        if (executableMethods == null) {
+            return new InvocationPlan<>(interceptorKind, null, false);
+        }
+        return new InvocationPlan<>(interceptorKind, executableMethods, executableMethods[0].getReturnType().isVoid());
+    }
+
     private InterceptorKind selectMethodKind(MethodInvocationContext<Object, Object> context) {
         if (context.getKind() == InterceptorKind.PRE_DESTROY && context.hasAnnotation(DisposerMethod.class)) {
             return InterceptorKind.AROUND;
@@ -231,6 +245,17 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
         return interceptorBindings;
     }
 
+    /**
+     * Resolves the interceptor bindings of an intercepted method or constructor, shared by all its invocations.
+     *
+     * @param key      The intercepted method or constructor
+     * @param metadata The supplier of the binding metadata
+     * @return The interceptor bindings
+     */
+    Set<Annotation> resolveInvocationInterceptorBindings(Object key, Supplier<AnnotationMetadata> metadata) {
+        return interceptionPlans().resolveInvocationInterceptorBindings(key, metadata);
+    }
+
     @Override
     public boolean intercepts(InterceptionType type) {
         return selectMethod(type) != null;
@@ -244,6 +269,21 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
         return selectMethod(kind) != null;
     }
 
+    /**
+     * @return true if the interceptor can be called by a generated chain: it is not a self interceptor and declares
+     * a single {@link AroundInvoke} method
+     */
+    boolean isChainable() {
+        return !isSelfInterceptor && aroundInvoke != null && aroundInvoke.length == 1;
+    }
+
+    /**
+     * @return The name of the interceptor class
+     */
+    String getInterceptorTypeName() {
+        return beanDefinition.getBeanType().getName();
+    }
+
     @Override
     public Object intercept(InterceptionType type, B instance, jakarta.interceptor.InvocationContext ctx) {
         final ExecutableMethod<B, Object>[] executableMethods = selectMethod(type);
@@ -297,10 +337,6 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
     @SuppressWarnings("unchecked")
     private B resolveInterceptorBean(InvocationContext<Object, Object> context) {
         if (!isSelfInterceptor) {
-            B targetInterceptorBean = findTargetInterceptorBean(context.getTarget());
-            if (targetInterceptorBean != null) {
-                return targetInterceptorBean;
-            }
             return ensureInterceptorBean(context.getTarget());
         }
         Object target = context.getTarget();
@@ -321,209 +357,64 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
         if (target == null) {
             return resolveInterceptorBean();
         }
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            BeanRegistration<B> interceptorRegistration = findInterceptorRegistrationForTargetWithoutLock(target);
-            if (interceptorRegistration == null && target instanceof InterceptedProxy<?> interceptedProxy) {
-                interceptorRegistration = findInterceptorRegistrationForTargetWithoutLock(interceptedProxy.interceptedTarget());
-            }
+        TargetInterceptors targetInterceptors = interceptedTargets().findOrCreate(target);
+        String interceptorName = beanDefinition.getName();
+        BeanRegistration<B> interceptorRegistration = (BeanRegistration<B>) targetInterceptors.get(interceptorName);
+        if (interceptorRegistration == null) {
+            BeanRegistration<B> createdRegistration = resolveInterceptorBeanRegistration();
+            interceptorRegistration = (BeanRegistration<B>) targetInterceptors.putIfAbsent(interceptorName, createdRegistration);
             if (interceptorRegistration == null) {
-                interceptorRegistration = resolveInterceptorBeanRegistration();
-                rememberInterceptorBeanForTargetWithoutLock(target, interceptorRegistration);
-                if (target instanceof InterceptedProxy<?> interceptedProxy) {
-                    Object interceptedTarget = interceptedProxy.interceptedTarget();
-                    if (interceptedTarget != null) {
-                        rememberInterceptorBeanForTargetWithoutLock(interceptedTarget, interceptorRegistration);
-                        rememberContextualTargetWithoutLock(interceptedTarget, target);
-                    }
-                }
+                interceptorRegistration = createdRegistration;
+            } else {
+                // Another thread associated the interceptor with the target first
+                beanContext.destroyBean(createdRegistration);
             }
-            return interceptorRegistration.getBean();
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
         }
+        return interceptorRegistration.getBean();
     }
 
     private void rememberInterceptorBean(@Nullable Object target, BeanRegistration<B> interceptorRegistration) {
         if (target == null || isSelfInterceptor) {
             return;
         }
-        rememberInterceptorBeanForTarget(target, interceptorRegistration);
-        if (target instanceof InterceptedProxy<?> interceptedProxy) {
-            Object interceptedTarget = interceptedProxy.interceptedTarget();
-            if (interceptedTarget != null) {
-                rememberInterceptorBeanForTarget(interceptedTarget, interceptorRegistration);
-                rememberContextualTarget(interceptedTarget, target);
-            }
-        }
-    }
-
-    private void rememberInterceptorBeanForTarget(Object target, BeanRegistration<B> interceptorRegistration) {
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            rememberInterceptorBeanForTargetWithoutLock(target, interceptorRegistration);
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
-        }
-    }
-
-    private void rememberInterceptorBeanForTargetWithoutLock(Object target, BeanRegistration<B> interceptorRegistration) {
-        TARGET_INTERCEPTOR_INSTANCES
-                .computeIfAbsent(target, ignored -> new HashMap<>())
-                .put(beanDefinition.getName(), interceptorRegistration);
-    }
-
-    private void rememberContextualTarget(Object interceptedTarget, Object contextualTarget) {
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            rememberContextualTargetWithoutLock(interceptedTarget, contextualTarget);
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
-        }
-    }
-
-    private void rememberContextualTargetWithoutLock(Object interceptedTarget, Object contextualTarget) {
-        TARGET_CONTEXTUAL_INSTANCES.put(interceptedTarget, contextualTarget);
-    }
-
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private B findTargetInterceptorBean(@Nullable Object target) {
-        if (target == null) {
-            return null;
-        }
-        B interceptor = findInterceptorBeanForTarget(target);
-        if (interceptor == null && target instanceof InterceptedProxy<?> interceptedProxy) {
-            interceptor = findInterceptorBeanForTarget(interceptedProxy.interceptedTarget());
-        }
-        return interceptor;
-    }
-
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private B findInterceptorBeanForTarget(@Nullable Object target) {
-        if (target == null) {
-            return null;
-        }
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.readLock().lock();
-        try {
-            return findInterceptorBeanForTargetWithoutLock(target);
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.readLock().unlock();
-        }
-    }
-
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private B findInterceptorBeanForTargetWithoutLock(@Nullable Object target) {
-        BeanRegistration<B> interceptorRegistration = findInterceptorRegistrationForTargetWithoutLock(target);
-        return interceptorRegistration == null ? null : interceptorRegistration.getBean();
-    }
-
-    @SuppressWarnings("unchecked")
-    @Nullable
-    private BeanRegistration<B> findInterceptorRegistrationForTargetWithoutLock(@Nullable Object target) {
-        if (target == null) {
-            return null;
-        }
-        Map<String, BeanRegistration<?>> interceptors = TARGET_INTERCEPTOR_INSTANCES.get(target);
-        if (interceptors == null) {
-            return null;
-        }
-        return (BeanRegistration<B>) interceptors.get(beanDefinition.getName());
+        interceptedTargets().findOrCreate(target).put(beanDefinition.getName(), interceptorRegistration);
     }
 
     private void forgetInterceptorBean(@Nullable Object target) {
         if (target == null || isSelfInterceptor) {
             return;
         }
-        BeanRegistration<?> interceptorRegistration;
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            interceptorRegistration = forgetInterceptorBeanForTarget(target);
-            if (target instanceof InterceptedProxy<?> interceptedProxy) {
-                Object interceptedTarget = interceptedProxy.interceptedTarget();
-                if (interceptedTarget != null) {
-                    BeanRegistration<?> targetInterceptorRegistration = forgetInterceptorBeanForTarget(interceptedTarget);
-                    if (interceptorRegistration == null) {
-                        interceptorRegistration = targetInterceptorRegistration;
-                    }
-                    TARGET_CONTEXTUAL_INSTANCES.remove(interceptedTarget);
-                }
-            }
-            TARGET_CONTEXTUAL_INSTANCES.remove(target);
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
+        InterceptedTargets interceptedTargets = interceptedTargets();
+        TargetInterceptors targetInterceptors = interceptedTargets.find(target);
+        if (targetInterceptors == null) {
+            return;
         }
+        BeanRegistration<?> interceptorRegistration = interceptedTargets.remove(target, targetInterceptors, beanDefinition.getName());
         if (interceptorRegistration != null) {
             beanContext.destroyBean((BeanRegistration) interceptorRegistration);
         }
     }
 
-    @Nullable
-    private BeanRegistration<?> forgetInterceptorBeanForTarget(Object target) {
-        Map<String, BeanRegistration<?>> interceptors = TARGET_INTERCEPTOR_INSTANCES.get(target);
-        if (interceptors != null) {
-            BeanRegistration<?> interceptor = interceptors.remove(beanDefinition.getName());
-            if (interceptors.isEmpty()) {
-                TARGET_INTERCEPTOR_INSTANCES.remove(target);
-            }
-            return interceptor;
-        }
-        return null;
-    }
-
-    static void clearTargetInterceptorBeans() {
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            TARGET_INTERCEPTOR_INSTANCES.clear();
-            TARGET_CONTEXTUAL_INSTANCES.clear();
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
-        }
-    }
-
-    static void destroyInterceptorBeansForTarget(BeanContext beanContext, @Nullable Object target) {
-        if (target == null) {
-            return;
-        }
-        Set<BeanRegistration<?>> interceptors = Collections.newSetFromMap(new IdentityHashMap<>());
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().lock();
-        try {
-            collectInterceptorBeansForTargetWithoutLock(target, interceptors);
-            Object contextualTarget = TARGET_CONTEXTUAL_INSTANCES.remove(target);
-            if (contextualTarget != null) {
-                collectInterceptorBeansForTargetWithoutLock(contextualTarget, interceptors);
-            }
-            if (target instanceof InterceptedProxy<?> interceptedProxy) {
-                Object interceptedTarget = interceptedProxy.interceptedTarget();
-                if (interceptedTarget != null) {
-                    TARGET_CONTEXTUAL_INSTANCES.remove(interceptedTarget);
-                    collectInterceptorBeansForTargetWithoutLock(interceptedTarget, interceptors);
-                }
-            }
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.writeLock().unlock();
-        }
-        for (BeanRegistration<?> interceptor : interceptors) {
-            beanContext.destroyBean((BeanRegistration) interceptor);
-        }
+    Object resolveContextualTarget(Object target) {
+        return interceptedTargets().resolveContextualTarget(target);
     }
 
-    private static void collectInterceptorBeansForTargetWithoutLock(Object target, Set<BeanRegistration<?>> interceptors) {
-        Map<String, BeanRegistration<?>> targetInterceptors = TARGET_INTERCEPTOR_INSTANCES.remove(target);
-        if (targetInterceptors != null) {
-            interceptors.addAll(targetInterceptors.values());
+    private InterceptedTargets interceptedTargets() {
+        InterceptedTargets targets = interceptedTargets;
+        if (targets == null) {
+            targets = beanContext.getBean(InterceptedTargets.class);
+            interceptedTargets = targets;
         }
+        return targets;
     }
 
-    static Object resolveContextualTarget(Object target) {
-        TARGET_INTERCEPTOR_INSTANCES_LOCK.readLock().lock();
-        try {
-            return TARGET_CONTEXTUAL_INSTANCES.getOrDefault(target, target);
-        } finally {
-            TARGET_INTERCEPTOR_INSTANCES_LOCK.readLock().unlock();
+    private InterceptionPlans interceptionPlans() {
+        InterceptionPlans plans = interceptionPlans;
+        if (plans == null) {
+            plans = beanContext.getBean(InterceptionPlans.class);
+            interceptionPlans = plans;
         }
+        return plans;
     }
 
     @SuppressWarnings("rawtypes")
@@ -550,4 +441,17 @@ public final class JakartaInterceptorAdapter<B> extends OdiBeanImpl<B> implement
     public String toString() {
         return beanDefinition.toString();
     }
+
+    /**
+     * The interceptor methods to invoke for an intercepted method, resolved once per method.
+     *
+     * @param kind        The interceptor kind
+     * @param methods     The interceptor methods or null if the invocation only proceeds
+     * @param returnsVoid Whether the first interceptor method returns void
+     * @param <B>         The interceptor type
+     */
+    private record InvocationPlan<B>(InterceptorKind kind,
+                                     @Nullable ExecutableMethod<B, Object>[] methods,
+                                     boolean returnsVoid) {
+    }
 }
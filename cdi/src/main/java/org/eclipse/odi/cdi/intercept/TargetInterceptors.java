@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import io.micronaut.context.BeanRegistration;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The interceptor instances associated with one intercepted target instance. A proxy and its intercepted target
+ * share the same instance, which also remembers the proxy as the contextual target.
+ *
+ * @see InterceptedTargets
+ */
+@Internal
+final class TargetInterceptors {
+
+    private final Map<String, BeanRegistration<?>> interceptors = new ConcurrentHashMap<>(4);
+    @Nullable
+    private volatile WeakReference<Object> contextualTarget;
+
+    /**
+     * @param interceptorName The interceptor bean definition name
+     * @return The interceptor registration or null
+     */
+    @Nullable
+    BeanRegistration<?> get(String interceptorName) {
+        return interceptors.get(interceptorName);
+    }
+
+    /**
+     * @param interceptorName The interceptor bean definition name
+     * @param registration    The interceptor registration
+     * @return The registration that is already associated or null
+     */
+    @Nullable
+    BeanRegistration<?> putIfAbsent(String interceptorName, BeanRegistration<?> registration) {
+        return interceptors.putIfAbsent(interceptorName, registration);
+    }
+
+    /**
+     * @param interceptorName The interceptor bean definition name
+     * @param registration    The interceptor registration
+     */
+    void put(String interceptorName, BeanRegistration<?> registration) {
+        interceptors.put(interceptorName, registration);
+    }
+
+    @Nullable
+    BeanRegistration<?> remove(String interceptorName) {
+        return interceptors.remove(interceptorName);
+    }
+
+    boolean isEmpty() {
+        return interceptors.isEmpty();
+    }
+
+    @Nullable
+    Object getContextualTarget() {
+        WeakReference<Object> contextual = contextualTarget;
+        return contextual == null ? null : contextual.get();
+    }
+
+    void setContextualTarget(Object contextual) {
+        if (getContextualTarget() != contextual) {
+            contextualTarget = new WeakReference<>(contextual);
+        }
+    }
+
+    void unlink(@Nullable Set<BeanRegistration<?>> registrations) {
+        contextualTarget = null;
+        if (registrations != null) {
+            registrations.addAll(interceptors.values());
+            interceptors.clear();
+        }
+    }
+}
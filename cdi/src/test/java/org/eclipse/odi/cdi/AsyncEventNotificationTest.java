@@ -0,0 +1,415 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import org.eclipse.odi.cdi.annotation.AsyncObserverLane;
+import org.eclipse.odi.cdi.annotation.VirtualThreadObserver;
+import org.eclipse.odi.cdi.events.AsyncEventCounters;
+import org.eclipse.odi.cdi.events.AsyncEventLimits;
+import org.eclipse.odi.cdi.events.AsyncEventOverflowPolicy;
+import org.eclipse.odi.cdi.events.OdiEventFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsyncEventNotificationTest {
+
+    @Test
+    void testAllAsyncObserversAreNotified() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Ping> event = container.select(new TypeLiteral<Event<Ping>>() {
+            }).get();
+            Ping ping = new Ping(false);
+
+            Ping result = event.fireAsync(ping).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertSame(ping, result);
+            assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), ping.observers);
+            assertTrue(ping.requestContextActive);
+        }
+    }
+
+    @Test
+    void testAsyncObserverFailuresAreSuppressed() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Ping> event = container.select(new TypeLiteral<Event<Ping>>() {
+            }).get();
+            Ping ping = new Ping(true);
+
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> event.fireAsync(ping).toCompletableFuture().get(10, TimeUnit.SECONDS));
+
+            assertTrue(exception.getCause() instanceof CompletionException);
+            assertEquals(1, exception.getCause().getSuppressed().length);
+            assertEquals(10, ping.observers.size());
+        }
+    }
+
+    @Test
+    void testVirtualThreadObserver() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Pong> event = container.select(new TypeLiteral<Event<Pong>>() {
+            }).get();
+
+            Pong pong = event.fireAsync(new Pong()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(Boolean.TRUE, pong.virtualThreads.get("virtual"));
+            assertEquals(Boolean.FALSE, pong.virtualThreads.get("default"));
+            assertTrue(pong.requestContextActive);
+        }
+    }
+
+    @Test
+    void testVirtualThreadsByDefault() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(OdiEventFactory.VIRTUAL_THREADS_PROPERTY, true)
+                .initialize()) {
+            Event<Pong> event = container.select(new TypeLiteral<Event<Pong>>() {
+            }).get();
+
+            Pong pong = event.fireAsync(new Pong()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(Boolean.TRUE, pong.virtualThreads.get("virtual"));
+            assertEquals(Boolean.TRUE, pong.virtualThreads.get("default"));
+        }
+    }
+
+    @Test
+    void testLaneMaxConcurrency() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(OdiEventFactory.LANES_PROPERTY_PREFIX + ".audit.max-concurrency", 1)
+                .initialize()) {
+            Event<Audit> event = container.select(new TypeLiteral<Event<Audit>>() {
+            }).get();
+
+            Audit audit = event.fireAsync(new Audit()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(3, audit.notified.get());
+            assertEquals(1, audit.maxRunning.get());
+        }
+    }
+
+    @Test
+    void testObserversSharingATaskGetTheirOwnRequestContext() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(OdiEventFactory.LANES_PROPERTY_PREFIX + ".shared.max-concurrency", 1)
+                .initialize()) {
+            Event<Shared> event = container.select(new TypeLiteral<Event<Shared>>() {
+            }).get();
+
+            Shared shared = event.fireAsync(new Shared()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(3, shared.requestBeans.size());
+        }
+    }
+
+    @Test
+    void testMaxInFlightReject() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(AsyncEventLimits.EVENT_TYPES_PROPERTY_PREFIX + ".slow.event-type", Slow.class.getName())
+                .addProperty(AsyncEventLimits.EVENT_TYPES_PROPERTY_PREFIX + ".slow.max-in-flight", 1)
+                .addProperty(AsyncEventLimits.EVENT_TYPES_PROPERTY_PREFIX + ".slow.overflow-policy", AsyncEventOverflowPolicy.REJECT.name())
+                .initialize()) {
+            Event<Slow> event = container.select(new TypeLiteral<Event<Slow>>() {
+            }).get();
+            AsyncEventLimits limits = container.select(AsyncEventLimits.class).get();
+            Slow slow = new Slow();
+
+            CompletableFuture<Slow> first = event.fireAsync(slow).toCompletableFuture();
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> event.fireAsync(new Slow()).toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof RejectedExecutionException);
+            assertEquals(1, limits.getCounters(Slow.class).orElseThrow().inFlight());
+
+            Slow next = new Slow();
+            next.release.countDown();
+            CompletableFuture<Slow> refired = first.thenCompose(ignored -> event.fireAsync(next).toCompletableFuture());
+
+            slow.release.countDown();
+            assertSame(slow, first.get(10, TimeUnit.SECONDS));
+            assertSame(next, refired.get(10, TimeUnit.SECONDS));
+
+            AsyncEventCounters counters = limits.getCounters(Slow.class).orElseThrow();
+            assertEquals(1, counters.rejected());
+            assertEquals(1, counters.peakInFlight());
+            assertTrue(limits.getCounters(Ping.class).isEmpty());
+        }
+    }
+
+    @Test
+    void testMaxInFlightCallerRunsByDefault() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(AsyncEventLimits.EVENT_TYPES_PROPERTY_PREFIX + ".slow.event-type", Slow.class.getName())
+                .addProperty(AsyncEventLimits.EVENT_TYPES_PROPERTY_PREFIX + ".slow.max-in-flight", 1)
+                .initialize()) {
+            Event<Slow> event = container.select(new TypeLiteral<Event<Slow>>() {
+            }).get();
+            AsyncEventLimits limits = container.select(AsyncEventLimits.class).get();
+            Slow slow = new Slow();
+
+            CompletableFuture<Slow> first = event.fireAsync(slow).toCompletableFuture();
+            Slow overflow = new Slow();
+            overflow.release.countDown();
+            CompletableFuture<Slow> second = event.fireAsync(overflow).toCompletableFuture();
+
+            assertTrue(second.isDone());
+            assertSame(overflow, second.get());
+            assertSame(Thread.currentThread(), overflow.notifiedBy);
+
+            slow.release.countDown();
+            assertSame(slow, first.get(10, TimeUnit.SECONDS));
+
+            AsyncEventCounters counters = limits.getCounters(Slow.class).orElseThrow();
+            assertEquals(1, counters.callerRuns());
+            assertEquals(0, counters.blocked());
+        }
+    }
+
+    @Test
+    void testDefaultLimitIgnoresEventsWithoutAsyncObservers() {
+        try (SeContainer container = SeContainerInitializer.newInstance()
+                .addProperty(AsyncEventLimits.MAX_IN_FLIGHT_PROPERTY, 4)
+                .initialize()) {
+            Event<Object> event = container.getBeanManager().getEvent();
+            AsyncEventLimits limits = container.select(AsyncEventLimits.class).get();
+
+            Tick tick = new Tick();
+            event.fire(tick);
+
+            assertTrue(tick.observed);
+            assertFalse(limits.getCounters().containsKey(Tick.class));
+        }
+    }
+
+    static class Slow {
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile Thread notifiedBy;
+    }
+
+    static class Tick {
+        volatile boolean observed;
+    }
+
+    static class Shared {
+        final Set<RequestBean> requestBeans = ConcurrentHashMap.newKeySet();
+    }
+
+    static class Audit {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final AtomicInteger notified = new AtomicInteger();
+    }
+
+    static class Pong {
+        final Map<String, Boolean> virtualThreads = new ConcurrentHashMap<>();
+        volatile boolean requestContextActive = true;
+    }
+
+    static class Ping {
+        final boolean fail;
+        final Set<Integer> observers = ConcurrentHashMap.newKeySet();
+        volatile boolean requestContextActive = true;
+
+        Ping(boolean fail) {
+            this.fail = fail;
+        }
+    }
+
+    @RequestScoped
+    static class RequestBean {
+        String ping() {
+            return "pong";
+        }
+
+        RequestBean self() {
+            return this;
+        }
+    }
+
+    @ApplicationScoped
+    static class TickObservers {
+
+        void observe(@Observes Tick tick) {
+            tick.observed = true;
+        }
+    }
+
+    @ApplicationScoped
+    static class SlowObservers {
+
+        void observe(@ObservesAsync Slow slow) throws InterruptedException {
+            slow.notifiedBy = Thread.currentThread();
+            slow.release.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @ApplicationScoped
+    static class AuditObservers {
+
+        @AsyncObserverLane("audit")
+        void audit1(@ObservesAsync Audit audit) throws InterruptedException {
+            notified(audit);
+        }
+
+        @AsyncObserverLane("audit")
+        void audit2(@ObservesAsync Audit audit) throws InterruptedException {
+            notified(audit);
+        }
+
+        @AsyncObserverLane("audit")
+        void audit3(@ObservesAsync Audit audit) throws InterruptedException {
+            notified(audit);
+        }
+
+        private void notified(Audit audit) throws InterruptedException {
+            int running = audit.running.incrementAndGet();
+            audit.maxRunning.accumulateAndGet(running, Math::max);
+            Thread.sleep(20);
+            audit.running.decrementAndGet();
+            audit.notified.incrementAndGet();
+        }
+    }
+
+    @ApplicationScoped
+    static class SharedObservers {
+
+        @Inject
+        RequestBean requestBean;
+
+        @AsyncObserverLane("shared")
+        void shared1(@ObservesAsync Shared shared) {
+            shared.requestBeans.add(requestBean.self());
+        }
+
+        @AsyncObserverLane("shared")
+        void shared2(@ObservesAsync Shared shared) {
+            shared.requestBeans.add(requestBean.self());
+        }
+
+        @AsyncObserverLane("shared")
+        void shared3(@ObservesAsync Shared shared) {
+            shared.requestBeans.add(requestBean.self());
+        }
+    }
+
+    @ApplicationScoped
+    static class PongObservers {
+
+        @Inject
+        RequestBean requestBean;
+
+        @VirtualThreadObserver
+        void observeOnVirtualThread(@ObservesAsync Pong pong) {
+            notified(pong, "virtual");
+        }
+
+        void observe(@ObservesAsync Pong pong) {
+            notified(pong, "default");
+        }
+
+        private void notified(Pong pong, String observer) {
+            try {
+                requestBean.ping();
+            } catch (RuntimeException e) {
+                pong.requestContextActive = false;
+            }
+            pong.virtualThreads.put(observer, Thread.currentThread().isVirtual());
+        }
+    }
+
+    @ApplicationScoped
+    static class PingObservers {
+
+        @Inject
+        RequestBean requestBean;
+
+        void observe1(@ObservesAsync Ping ping) {
+            notified(ping, 1);
+        }
+
+        void observe2(@ObservesAsync Ping ping) {
+            notified(ping, 2);
+        }
+
+        void observe3(@ObservesAsync Ping ping) {
+            notified(ping, 3);
+        }
+
+        void observe4(@ObservesAsync Ping ping) {
+            notified(ping, 4);
+        }
+
+        void observe5(@ObservesAsync Ping ping) {
+            notified(ping, 5);
+        }
+
+        void observe6(@ObservesAsync Ping ping) {
+            notified(ping, 6);
+        }
+
+        void observe7(@ObservesAsync Ping ping) {
+            notified(ping, 7);
+        }
+
+        void observe8(@ObservesAsync Ping ping) {
+            notified(ping, 8);
+        }
+
+        void observe9(@ObservesAsync Ping ping) {
+            notified(ping, 9);
+        }
+
+        void observe10(@ObservesAsync Ping ping) {
+            notified(ping, 10);
+            if (ping.fail) {
+                throw new IllegalStateException("Observer failed");
+            }
+        }
+
+        private void notified(Ping ping, int observer) {
+            try {
+                requestBean.ping();
+            } catch (RuntimeException e) {
+                ping.requestContextActive = false;
+            }
+            ping.observers.add(observer);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.util.TypeLiteral;
+import org.eclipse.odi.cdi.events.BatchEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BatchEventTest {
+
+    @Test
+    void testFireAll() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Message> event = container.select(new TypeLiteral<Event<Message>>() {
+            }).get();
+            Messages messages = container.select(Messages.class).get();
+
+            assertTrue(event instanceof BatchEvent);
+            ((BatchEvent<Message>) event).fireAll(List.of(new Message("a"), new UrgentMessage("b"), new Message("c")));
+            ((BatchEvent<Message>) event).fireAll(Stream.of(new Message("d"), new Message("e")));
+
+            assertEquals(List.of("a", "b", "c", "d", "e"), messages.sync());
+            assertEquals(List.of("b"), messages.urgent());
+        }
+    }
+
+    @Test
+    void testFireAllAsync() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            BatchEvent<Message> event = (BatchEvent<Message>) container.select(new TypeLiteral<Event<Message>>() {
+            }).get();
+            Messages messages = container.select(Messages.class).get();
+            List<Message> batch = List.of(new Message("a"), new Message("b"), new UrgentMessage("c"), new Message("d"));
+
+            List<Message> result = event.fireAllAsync(batch).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+            assertEquals(batch, result);
+            assertEquals(List.of("a", "b", "c", "d"), messages.async());
+        }
+    }
+
+    static class Message {
+        final String text;
+
+        Message(String text) {
+            this.text = text;
+        }
+    }
+
+    static class UrgentMessage extends Message {
+        UrgentMessage(String text) {
+            super(text);
+        }
+    }
+
+    @ApplicationScoped
+    static class Messages {
+        final List<String> sync = new CopyOnWriteArrayList<>();
+        final List<String> urgent = new CopyOnWriteArrayList<>();
+        final List<String> async = new CopyOnWriteArrayList<>();
+
+        void observe(@Observes Message message) {
+            sync.add(message.text);
+        }
+
+        void observeUrgent(@Observes UrgentMessage message) {
+            urgent.add(message.text);
+        }
+
+        void observeAsync(@ObservesAsync Message message) {
+            async.add(message.text);
+        }
+
+        List<String> sync() {
+            return sync;
+        }
+
+        List<String> urgent() {
+            return urgent;
+        }
+
+        List<String> async() {
+            return async;
+        }
+    }
+}
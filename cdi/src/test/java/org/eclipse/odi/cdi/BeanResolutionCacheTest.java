@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanResolutionCacheTest {
+
+    @Test
+    void testResolutionIsCached() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+
+            Collection<BeanDefinition<Cached>> first = beanContainer.getBeanDefinitions(Argument.of(Cached.class), null);
+            Collection<BeanDefinition<Cached>> second = beanContainer.getBeanDefinitions(Argument.of(Cached.class), null);
+
+            assertEquals(1, first.size());
+            assertSame(first, second);
+        }
+    }
+
+    @Test
+    void testRegistrationInvalidatesResolution() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            assertTrue(beanContainer.getBeanDefinitions(Argument.of(Registered.class), null).isEmpty());
+
+            Registered registered = new Registered();
+            beanContainer.registerSingleton(Registered.class, registered, null);
+
+            assertEquals(1, beanContainer.getBeanDefinitions(Argument.of(Registered.class), null).size());
+            assertSame(registered, container.select(Registered.class).get());
+        }
+    }
+
+    @Test
+    void testUncachedQualifiersStillResolve() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            for (int i = 0; i < 2048; i++) {
+                assertTrue(beanContainer.getBeanDefinitions(Argument.of(Cached.class), Qualifiers.byName("cached" + i)).isEmpty());
+            }
+
+            assertEquals(1, beanContainer.getBeanDefinitions(Argument.of(Cached.class), null).size());
+        }
+    }
+
+    @Singleton
+    static class Cached {
+    }
+
+    static class Registered {
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import io.micronaut.inject.BeanDefinition;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BeanTypeIndexTest {
+
+    @Test
+    void testIndexedLookupMatchesFullScan() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            List<Type> requiredTypes = List.of(
+                    new TypeLiteral<Repository<String>>() { }.getType(),
+                    new TypeLiteral<Repository<Integer>>() { }.getType(),
+                    new TypeLiteral<Repository<? extends Number>>() { }.getType(),
+                    new TypeLiteral<Repository<Object>>() { }.getType(),
+                    new TypeLiteral<Repository<Long>>() { }.getType()
+            );
+            for (Type requiredType : requiredTypes) {
+                Set<Class<?>> expected = beanContainer.getBeanContext().getAllBeanDefinitions().stream()
+                        .map(beanContainer::getBean)
+                        .filter(bean -> beanContainer.isMatchingBean(bean.getTypes(), bean.getQualifiers(), requiredType, Set.of()))
+                        .map(Bean::getBeanClass)
+                        .filter(BeanTypeIndexTest::isDeclaredByTest)
+                        .collect(Collectors.toSet());
+                Set<Class<?>> indexed = beanContainer.getBeans(requiredType).stream()
+                        .map(Bean::getBeanClass)
+                        .filter(BeanTypeIndexTest::isDeclaredByTest)
+                        .collect(Collectors.toSet());
+
+                assertEquals(expected, indexed, "Beans of " + requiredType);
+            }
+            assertEquals(
+                    Set.of(StringRepository.class),
+                    beanContainer.getBeans(new TypeLiteral<Repository<String>>() { }.getType()).stream()
+                            .map(Bean::getBeanClass)
+                            .collect(Collectors.toSet())
+            );
+        }
+    }
+
+    @Test
+    void testBeansAreCanonical() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            BeanDefinition<StringRepository> definition = beanContainer.getBeanContext().getBeanDefinition(StringRepository.class);
+            Set<Bean<?>> beans = beanContainer.getBeans(new TypeLiteral<Repository<String>>() { }.getType());
+
+            assertSame(beanContainer.getBean(definition), beanContainer.getBean(definition));
+            assertSame(beanContainer.getBean(definition), beans.iterator().next());
+            assertSame(container.getHandle().getBean(), container.getHandle().getBean());
+        }
+    }
+
+    private static boolean isDeclaredByTest(Class<?> beanClass) {
+        return beanClass.getEnclosingClass() == BeanTypeIndexTest.class;
+    }
+
+    interface Repository<T> {
+    }
+
+    @Singleton
+    static class StringRepository implements Repository<String> {
+    }
+
+    @Singleton
+    static class IntegerRepository implements Repository<Integer> {
+    }
+
+    @Singleton
+    static class LongRepository implements Repository<Long> {
+    }
+
+    @Singleton
+    @SuppressWarnings("rawtypes")
+    static class RawRepository implements Repository {
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.eclipse.odi.cdi.context.AbstractContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcurrentContextualCreationTest {
+
+    @Test
+    void testConcurrentFirstAccessCreatesSingleInstance() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            CreationGate gate = container.select(CreationGate.class).get();
+            SlowBean slowBean = container.select(SlowBean.class).get();
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                Queue<Thread> callers = new ConcurrentLinkedQueue<>();
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        callers.add(Thread.currentThread());
+                        return slowBean.instanceNumber();
+                    }));
+                }
+                gate.creationStarted.await();
+                // The creator waits for the gate, every other caller waits for the creation lock of the bean
+                awaitParked(callers, threads);
+                gate.finishCreation.countDown();
+
+                Set<Integer> instanceNumbers = new HashSet<>();
+                for (Future<Integer> result : results) {
+                    instanceNumbers.add(result.get());
+                }
+                assertEquals(Set.of(1), instanceNumbers);
+                assertEquals(1, gate.created.get());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    void testFailedCreationKeepsSingleCreator() throws Exception {
+        AbstractContext context = new AbstractContext() {
+            @Override
+            public Class<? extends Annotation> getScope() {
+                return ApplicationScoped.class;
+            }
+        };
+        FailingFirstContextual contextual = new FailingFirstContextual();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<Object> failing = executor.submit(() -> context.get(contextual, new NoOpCreationalContext<>()));
+            contextual.firstCreationStarted.await();
+            Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+            Future<Object> waiting = executor.submit(() -> {
+                waiters.add(Thread.currentThread());
+                return context.get(contextual, new NoOpCreationalContext<>());
+            });
+            // The waiter is parked on the creation lock before the first creation fails
+            awaitParked(waiters, 1);
+            contextual.failFirstCreation.countDown();
+            ExecutionException failure = assertThrows(ExecutionException.class, failing::get);
+            assertEquals(IllegalStateException.class, failure.getCause().getClass());
+
+            List<Future<Object>> results = new ArrayList<>();
+            results.add(waiting);
+            for (int i = 2; i < threads; i++) {
+                results.add(executor.submit(() -> context.get(contextual, new NoOpCreationalContext<>())));
+            }
+            Set<Object> instances = new HashSet<>();
+            for (Future<Object> result : results) {
+                instances.add(result.get());
+            }
+            assertEquals(1, instances.size());
+            assertEquals(2, contextual.creations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitParked(Queue<Thread> threads, int count) {
+        while (threads.size() < count || !threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class FailingFirstContextual implements Contextual<Object> {
+        private final AtomicInteger creations = new AtomicInteger();
+        private final CountDownLatch firstCreationStarted = new CountDownLatch(1);
+        private final CountDownLatch failFirstCreation = new CountDownLatch(1);
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            if (creations.incrementAndGet() == 1) {
+                firstCreationStarted.countDown();
+                try {
+                    failFirstCreation.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("First creation fails");
+            }
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+    }
+
+    private static final class NoOpCreationalContext<T> implements CreationalContext<T> {
+        @Override
+        public void push(T incompleteInstance) {
+        }
+
+        @Override
+        public void release() {
+        }
+    }
+
+    @Singleton
+    static class CreationGate {
+        private final AtomicInteger created = new AtomicInteger();
+        private final CountDownLatch creationStarted = new CountDownLatch(1);
+        private final CountDownLatch finishCreation = new CountDownLatch(1);
+    }
+
+    @ApplicationScoped
+    static class SlowBean {
+        @Inject
+        CreationGate gate;
+
+        private int instanceNumber;
+
+        @PostConstruct
+        void init() throws InterruptedException {
+            gate.creationStarted.countDown();
+            gate.finishCreation.await();
+            instanceNumber = gate.created.incrementAndGet();
+        }
+
+        int instanceNumber() {
+            return instanceNumber;
+        }
+    }
+}
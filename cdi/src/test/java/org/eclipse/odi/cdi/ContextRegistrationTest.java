@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.NormalScope;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.context.spi.Contextual;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ContextRegistrationTest {
+
+    @Test
+    void testContextRegisteredAfterLookupIsFound() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            assertFalse(beanContainer.getContexts(ApplicationScoped.class).isEmpty());
+            assertTrue(beanContainer.getContexts(Lane.class).isEmpty());
+
+            LaneContext context = new LaneContext();
+            beanContainer.registerContext(context);
+
+            assertSame(context, beanContainer.getContext(Lane.class));
+            assertEquals(1, beanContainer.getContexts(Lane.class.getName()).size());
+            assertSame(context, beanContainer.getContexts(Lane.class.getName()).iterator().next());
+        }
+    }
+
+    @NormalScope
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Lane {
+    }
+
+    static final class LaneContext implements Context {
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Lane.class;
+        }
+
+        @Override
+        public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+            return contextual.create(creationalContext);
+        }
+
+        @Override
+        public <T> T get(Contextual<T> contextual) {
+            return null;
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+    }
+}
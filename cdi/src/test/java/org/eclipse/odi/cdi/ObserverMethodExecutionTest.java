@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ObserverMethodExecutionTest {
+
+    @Test
+    void testEveryNotificationResolvesItsOwnArguments() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Ping> event = container.select(new TypeLiteral<Event<Ping>>() { }).get();
+            ExecutionLog log = container.select(ExecutionLog.class).get();
+
+            for (int i = 0; i < 3; i++) {
+                event.fire(new Ping(i));
+            }
+
+            assertEquals(List.of(0, 1, 2), log.pings);
+            assertEquals(1, Set.copyOf(log.applicationObservers).size());
+            assertEquals(3, Set.copyOf(log.dependentObservers).size());
+            assertEquals(3, Set.copyOf(log.helpers).size());
+            assertEquals(log.helpers, log.destroyedHelpers);
+        }
+    }
+
+    record Ping(int number) {
+    }
+
+    @Singleton
+    static class ExecutionLog {
+        final List<Integer> pings = new CopyOnWriteArrayList<>();
+        final List<Object> applicationObservers = new CopyOnWriteArrayList<>();
+        final List<Object> dependentObservers = new CopyOnWriteArrayList<>();
+        final List<Object> helpers = new CopyOnWriteArrayList<>();
+        final List<Object> destroyedHelpers = new CopyOnWriteArrayList<>();
+    }
+
+    @Dependent
+    static class Helper {
+        @Inject
+        ExecutionLog log;
+
+        @PreDestroy
+        void destroy() {
+            log.destroyedHelpers.add(this);
+        }
+    }
+
+    @ApplicationScoped
+    static class ApplicationObserver {
+        void onPing(@Observes Ping ping, Helper helper, ExecutionLog log) {
+            log.pings.add(ping.number());
+            log.applicationObservers.add(this);
+            log.helpers.add(helper);
+        }
+    }
+
+    @Dependent
+    static class DependentObserver {
+        void onPing(@Observes Ping ping, ExecutionLog log) {
+            log.dependentObservers.add(this);
+        }
+    }
+}
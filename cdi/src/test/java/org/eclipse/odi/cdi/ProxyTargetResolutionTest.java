@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import io.micronaut.inject.BeanDefinition;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.spi.Context;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxyTargetResolutionTest {
+
+    @Test
+    void testProxyTargetBeanIsResolvedOnce() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            BeanDefinition<Counter> proxyDefinition = beanContainer.getBeanContext().getBeanDefinitions(Counter.class).stream()
+                    .filter(BeanDefinition::isProxy)
+                    .findFirst()
+                    .orElseThrow();
+            OdiBean<Counter> proxyBean = beanContainer.getBean(proxyDefinition);
+            OdiBean<Counter> targetBean = proxyBean.getProxyTargetBean();
+
+            assertTrue(proxyBean.isProxy());
+            assertFalse(targetBean.isProxy());
+            assertSame(targetBean, proxyBean.getProxyTargetBean());
+            assertSame(targetBean, beanContainer.getBean(targetBean.getBeanDefinition()));
+        }
+    }
+
+    @Test
+    void testProxiedCallsReachOneContextualInstance() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            Counter counter = container.select(Counter.class).get();
+            for (int i = 0; i < 3; i++) {
+                counter.increment();
+            }
+
+            BeanDefinition<Counter> proxyDefinition = beanContainer.getBeanContext().getBeanDefinitions(Counter.class).stream()
+                    .filter(BeanDefinition::isProxy)
+                    .findFirst()
+                    .orElseThrow();
+            OdiBean<Counter> proxyBean = beanContainer.getBean(proxyDefinition);
+            Context context = beanContainer.getContext(ApplicationScoped.class);
+            Counter instance = context.get(proxyBean);
+
+            assertEquals(3, counter.count());
+            assertNotNull(instance);
+            assertSame(instance, context.get(proxyBean.getProxyTargetBean()));
+            assertEquals(3, instance.count());
+        }
+    }
+
+    @ApplicationScoped
+    static class Counter {
+        private final AtomicInteger count = new AtomicInteger();
+
+        void increment() {
+            count.incrementAndGet();
+        }
+
+        int count() {
+            return count.get();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.control.RequestContextController;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Inject;
+import org.eclipse.odi.cdi.context.AbstractContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestContextIsolationTest {
+
+    @Test
+    void testRequestContextIsBoundToThread() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            RequestBean requestBean = container.select(RequestBean.class).get();
+
+            assertTrue(controller.activate());
+            try {
+                String id = requestBean.id();
+                assertEquals(id, requestBean.id());
+
+                String otherThreadId = CompletableFuture.supplyAsync(() -> {
+                    RequestContextController otherController = container.select(RequestContextController.class).get();
+                    assertTrue(otherController.activate());
+                    try {
+                        return requestBean.id();
+                    } finally {
+                        otherController.deactivate();
+                    }
+                }).get();
+
+                assertNotEquals(id, otherThreadId);
+                assertEquals(id, requestBean.id());
+                assertFalse(controller.activate());
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+    @Test
+    void testDeactivateUnbindsStorageFromThread() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            RequestBean requestBean = container.select(RequestBean.class).get();
+
+            assertTrue(controller.activate());
+            AbstractContext requestContext = (AbstractContext) container.getBeanManager().getContext(RequestScoped.class);
+            String id = requestBean.id();
+            requestContext.deactivate();
+            assertFalse(requestContext.isActive());
+
+            requestContext.activate();
+            try {
+                assertNotEquals(id, requestBean.id());
+            } finally {
+                controller.deactivate();
+            }
+        }
+    }
+
+    @Test
+    void testDeactivateDestroysUnboundInstances() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            DestroyedRequestBean requestBean = container.select(DestroyedRequestBean.class).get();
+            DestructionLog destructionLog = container.select(DestructionLog.class).get();
+
+            assertTrue(controller.activate());
+            AbstractContext requestContext = (AbstractContext) container.getBeanManager().getContext(RequestScoped.class);
+            requestBean.touch();
+            assertEquals(0, destructionLog.destroyed());
+
+            requestContext.deactivate();
+
+            assertEquals(1, destructionLog.destroyed());
+        }
+    }
+
+    @Test
+    void testRequestLifecycleEventsAreObserved() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            RequestContextController controller = container.select(RequestContextController.class).get();
+            RequestLifecycleObserver observer = container.select(RequestLifecycleObserver.class).get();
+            int initialized = observer.initialized();
+            int beforeDestroyed = observer.beforeDestroyed();
+            int destroyed = observer.destroyed();
+
+            for (int i = 0; i < 3; i++) {
+                assertTrue(controller.activate());
+                controller.deactivate();
+            }
+
+            assertEquals(initialized + 3, observer.initialized());
+            assertEquals(beforeDestroyed + 3, observer.beforeDestroyed());
+            assertEquals(destroyed + 3, observer.destroyed());
+        }
+    }
+
+    @ApplicationScoped
+    static class RequestLifecycleObserver {
+        private final AtomicInteger initialized = new AtomicInteger();
+        private final AtomicInteger beforeDestroyed = new AtomicInteger();
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        void onInitialized(@Observes @Initialized(RequestScoped.class) Object payload) {
+            initialized.incrementAndGet();
+        }
+
+        void onBeforeDestroyed(@Observes @BeforeDestroyed(RequestScoped.class) Object payload) {
+            beforeDestroyed.incrementAndGet();
+        }
+
+        void onDestroyed(@Observes @Destroyed(RequestScoped.class) Object payload) {
+            destroyed.incrementAndGet();
+        }
+
+        int initialized() {
+            return initialized.get();
+        }
+
+        int beforeDestroyed() {
+            return beforeDestroyed.get();
+        }
+
+        int destroyed() {
+            return destroyed.get();
+        }
+    }
+
+    @ApplicationScoped
+    static class DestructionLog {
+        private final AtomicInteger destroyed = new AtomicInteger();
+
+        void record() {
+            destroyed.incrementAndGet();
+        }
+
+        int destroyed() {
+            return destroyed.get();
+        }
+    }
+
+    @RequestScoped
+    static class DestroyedRequestBean {
+        @Inject
+        DestructionLog destructionLog;
+
+        void touch() {
+        }
+
+        @PreDestroy
+        void destroy() {
+            destructionLog.record();
+        }
+    }
+
+    @RequestScoped
+    static class RequestBean {
+        private final String id = UUID.randomUUID().toString();
+
+        String id() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.inject.spi.EventMetadata;
+import jakarta.enterprise.util.TypeLiteral;
+import jakarta.inject.Inject;
+import jakarta.inject.Qualifier;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SharedEventContextTest {
+
+    @Test
+    void testObserversOfAFireShareTheMetadata() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            Event<Signal> event = container.select(new TypeLiteral<Event<Signal>>() {
+            }).get();
+            Signal first = new Signal();
+            Signal second = new Signal();
+
+            event.fire(first);
+            event.fire(second);
+
+            assertEquals(2, first.metadata.size());
+            assertSame(first.metadata.get(0), first.metadata.get(1));
+            assertEquals(2, second.metadata.size());
+            assertNotSame(first.metadata.get(0), second.metadata.get(0));
+            assertEquals(Signal.class, first.metadata.get(0).getType());
+            assertEquals(List.of("plain"), first.plainObservers);
+        }
+    }
+
+    @Test
+    void testQualifiersAreSynthesizedOnce() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            LoudEmitter emitter = container.select(LoudEmitter.class).get();
+            Signal first = new Signal();
+            Signal second = new Signal();
+
+            emitter.emit(first);
+            emitter.emit(second);
+
+            Set<Annotation> qualifiers = first.metadata.get(0).getQualifiers();
+            assertTrue(qualifiers.contains(Any.Literal.INSTANCE));
+            assertTrue(qualifiers.stream().anyMatch(Loud.class::isInstance));
+            assertSame(qualifiers, second.metadata.get(0).getQualifiers());
+        }
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Loud {
+    }
+
+    static class Signal {
+        final List<EventMetadata> metadata = new CopyOnWriteArrayList<>();
+        final List<String> plainObservers = new CopyOnWriteArrayList<>();
+    }
+
+    @ApplicationScoped
+    static class LoudEmitter {
+
+        @Inject
+        @Loud
+        Event<Signal> event;
+
+        void emit(Signal signal) {
+            event.fire(signal);
+        }
+    }
+
+    @ApplicationScoped
+    static class SignalObservers {
+
+        void first(@Observes Signal signal, EventMetadata metadata) {
+            signal.metadata.add(metadata);
+        }
+
+        void second(@Observes Signal signal, EventMetadata metadata) {
+            signal.metadata.add(metadata);
+        }
+
+        void plain(@Observes Signal signal) {
+            signal.plainObservers.add("plain");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.events;
+
+import io.micronaut.context.Qualifier;
+import io.micronaut.core.type.Argument;
+import jakarta.enterprise.event.Reception;
+import jakarta.enterprise.event.TransactionPhase;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class OdiObserverMethodRegistryTest {
+
+    @Test
+    void testResolutionIsCachedUntilRegistration() {
+        OdiObserverMethodRegistry registry = new OdiObserverMethodRegistry();
+        TestObserverMethod<Payload> payloadObserver = new TestObserverMethod<>("payload", Payload.class, 0);
+        registry.register(payloadObserver);
+
+        List<ObserverMethod<Payload>> first = registry.findListOfObserverMethods(Argument.of(Payload.class), null);
+        List<ObserverMethod<Payload>> second = registry.findListOfObserverMethods(Argument.of(Payload.class), null);
+
+        assertEquals(List.of(payloadObserver), first);
+        assertSame(first, second);
+
+        TestObserverMethod<Object> objectObserver = new TestObserverMethod<>("object", Object.class, 0);
+        registry.register(objectObserver);
+        List<ObserverMethod<Payload>> afterRegistration = registry.findListOfObserverMethods(Argument.of(Payload.class), null);
+
+        assertNotSame(first, afterRegistration);
+        assertEquals(List.of(payloadObserver, objectObserver), afterRegistration);
+    }
+
+    @Test
+    void testResolutionIsCachedPerEventType() {
+        OdiObserverMethodRegistry registry = new OdiObserverMethodRegistry();
+        TestObserverMethod<Payload> payloadObserver = new TestObserverMethod<>("payload", Payload.class, 0);
+        TestObserverMethod<SpecialPayload> specialObserver = new TestObserverMethod<>("special", SpecialPayload.class, 0);
+        registry.register(payloadObserver);
+        registry.register(specialObserver);
+
+        assertEquals(List.of(payloadObserver), registry.findListOfObserverMethods(Argument.of(Payload.class), null));
+        assertEquals(
+                List.of(payloadObserver, specialObserver),
+                registry.findListOfObserverMethods(Argument.of(SpecialPayload.class), null)
+        );
+    }
+
+    @Test
+    void testResolutionOrderAcrossRawTypes() {
+        OdiObserverMethodRegistry registry = new OdiObserverMethodRegistry();
+        TestObserverMethod<SpecialPayload> special = new TestObserverMethod<>("special", SpecialPayload.class, 10);
+        TestObserverMethod<Object> object = new TestObserverMethod<>("object", Object.class, 5);
+        TestObserverMethod<Payload> payload = new TestObserverMethod<>("payload", Payload.class, 10);
+        TestObserverMethod<Payload> earlyPayload = new TestObserverMethod<>("earlyPayload", Payload.class, 1);
+        TestObserverMethod<Object> lateObject = new TestObserverMethod<>("lateObject", Object.class, 10);
+        registry.register(special);
+        registry.register(object);
+        registry.register(payload);
+        registry.register(earlyPayload);
+        registry.register(lateObject);
+
+        assertEquals(
+                List.of(earlyPayload, object, special, payload, lateObject),
+                registry.findListOfObserverMethods(Argument.of(SpecialPayload.class), null)
+        );
+        assertEquals(
+                List.of(earlyPayload, object, payload, lateObject),
+                registry.findListOfObserverMethods(Argument.of(Payload.class), null)
+        );
+    }
+
+    static class Payload {
+    }
+
+    static class SpecialPayload extends Payload {
+    }
+
+    /**
+     * An observer method that is only matched by its observed type.
+     */
+    record TestObserverMethod<T>(String name, Class<T> type, int priority) implements OdiObserverMethod<T> {
+
+        @Override
+        public Argument<T> getObservedArgument() {
+            return Argument.of(type);
+        }
+
+        @Override
+        public Qualifier<T> getObservedQualifier() {
+            return null;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return OdiObserverMethodRegistryTest.class;
+        }
+
+        @Override
+        public Type getObservedType() {
+            return type;
+        }
+
+        @Override
+        public Set<Annotation> getObservedQualifiers() {
+            return Set.of();
+        }
+
+        @Override
+        public Reception getReception() {
+            return Reception.ALWAYS;
+        }
+
+        @Override
+        public TransactionPhase getTransactionPhase() {
+            return TransactionPhase.IN_PROGRESS;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
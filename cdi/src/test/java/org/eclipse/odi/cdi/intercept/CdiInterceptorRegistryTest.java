@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CdiInterceptorRegistryTest {
+
+    @Test
+    void testCachedChainKeepsThePriorityOrder() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            ChainLog log = container.select(ChainLog.class).get();
+            OrderedBean bean = container.select(OrderedBean.class).get();
+
+            bean.work();
+            bean.work();
+            bean.rest();
+
+            assertEquals(List.of("zulu", "alpha", "zulu", "alpha", "zulu", "alpha"), log.names());
+        }
+    }
+
+    @Test
+    void testCachedChainUsesTheInterceptorsOfEveryProxy() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            ChainLog log = container.select(ChainLog.class).get();
+            OrderedBean first = container.select(OrderedBean.class).get();
+            OrderedBean second = container.select(OrderedBean.class).get();
+
+            first.work();
+            List<Integer> firstInterceptors = log.drainIds();
+            second.work();
+            List<Integer> secondInterceptors = log.drainIds();
+            first.work();
+
+            assertEquals(2, firstInterceptors.size());
+            assertEquals(2, secondInterceptors.size());
+            assertTrue(Collections.disjoint(firstInterceptors, secondInterceptors));
+            assertEquals(firstInterceptors, log.drainIds());
+        }
+    }
+
+    @Inherited
+    @InterceptorBinding
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Ordered {
+    }
+
+    /**
+     * The invocations of the interceptor instances, as name and instance id.
+     */
+    @Singleton
+    static class ChainLog {
+        final AtomicInteger created = new AtomicInteger();
+        final List<Invocation> invocations = new CopyOnWriteArrayList<>();
+
+        List<String> names() {
+            return invocations.stream().map(Invocation::name).toList();
+        }
+
+        List<Integer> drainIds() {
+            List<Integer> ids = invocations.stream().map(Invocation::id).toList();
+            invocations.clear();
+            return ids;
+        }
+
+        record Invocation(String name, int id) {
+        }
+    }
+
+    // Sorts after AlphaInterceptor by name, so only the priority puts it first
+    @Ordered
+    @Interceptor
+    @Priority(10)
+    static class ZuluInterceptor {
+        private final ChainLog log;
+        private final int id;
+
+        ZuluInterceptor(ChainLog log) {
+            this.log = log;
+            this.id = log.created.incrementAndGet();
+        }
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            log.invocations.add(new ChainLog.Invocation("zulu", id));
+            return ctx.proceed();
+        }
+    }
+
+    @Ordered
+    @Interceptor
+    @Priority(20)
+    static class AlphaInterceptor {
+        private final ChainLog log;
+        private final int id;
+
+        AlphaInterceptor(ChainLog log) {
+            this.log = log;
+            this.id = log.created.incrementAndGet();
+        }
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            log.invocations.add(new ChainLog.Invocation("alpha", id));
+            return ctx.proceed();
+        }
+    }
+
+    @Ordered
+    @Dependent
+    static class OrderedBean {
+        void work() {
+        }
+
+        void rest() {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.odi.cdi.OdiBeanContainer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class InterceptedTargetsTest {
+
+    @Test
+    void testAssociationsOfCollectedTargetsAreExpunged() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            InterceptedTargets targets = beanContainer.getBeanContext().getBean(InterceptedTargets.class);
+            TrackingLog log = container.select(TrackingLog.class).get();
+            List<TrackedBean> beans = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                TrackedBean bean = container.select(TrackedBean.class).get();
+                bean.touch();
+                assertNotNull(targets.find(bean));
+                beans.add(bean);
+            }
+            int associated = targets.size();
+            assertEquals(10, log.created.get());
+
+            for (TrackedBean bean : beans) {
+                targets.markCollected(bean);
+            }
+            targets.expungeCollectedTargets();
+
+            assertEquals(associated - beans.size(), targets.size());
+            for (TrackedBean bean : beans) {
+                assertNull(targets.find(bean));
+            }
+        }
+    }
+
+    @Test
+    void testExpungedTargetGetsNewInterceptorInstances() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            OdiBeanContainer beanContainer = (OdiBeanContainer) container.getBeanContainer();
+            InterceptedTargets targets = beanContainer.getBeanContext().getBean(InterceptedTargets.class);
+            TrackingLog log = container.select(TrackingLog.class).get();
+            TrackedBean bean = container.select(TrackedBean.class).get();
+            bean.touch();
+            bean.touch();
+            assertEquals(1, log.created.get());
+
+            targets.markCollected(bean);
+            bean.touch();
+
+            assertEquals(2, log.created.get());
+            assertEquals(3, log.invocations.get());
+        }
+    }
+
+    @Inherited
+    @InterceptorBinding
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Tracked {
+    }
+
+    @Singleton
+    static class TrackingLog {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger invocations = new AtomicInteger();
+    }
+
+    @Tracked
+    @Interceptor
+    static class TrackingInterceptor {
+        private final TrackingLog log;
+
+        TrackingInterceptor(TrackingLog log) {
+            this.log = log;
+            log.created.incrementAndGet();
+        }
+
+        @AroundInvoke
+        Object track(InvocationContext ctx) throws Exception {
+            log.invocations.incrementAndGet();
+            return ctx.proceed();
+        }
+    }
+
+    @Tracked
+    @Dependent
+    static class TrackedBean {
+        void touch() {
+        }
+    }
+}
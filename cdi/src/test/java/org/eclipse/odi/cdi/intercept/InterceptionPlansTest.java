@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterceptionPlansTest {
+
+    @Test
+    void testDependentInstancesShareTheBindings() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            BindingLog log = container.select(BindingLog.class).get();
+            Inspected first = container.select(Inspected.class).get();
+            Inspected second = container.select(Inspected.class).get();
+
+            first.work();
+            second.work();
+            first.work();
+
+            assertNotSame(first, second);
+            assertEquals(3, log.bindings.size());
+            assertSame(log.bindings.get(0), log.bindings.get(1));
+            assertSame(log.bindings.get(0), log.bindings.get(2));
+            assertTrue(log.bindings.get(0).stream().anyMatch(Inspecting.class::isInstance));
+        }
+    }
+
+    @Inherited
+    @InterceptorBinding
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Inspecting {
+    }
+
+    @Singleton
+    static class BindingLog {
+        final List<Set<Annotation>> bindings = new CopyOnWriteArrayList<>();
+    }
+
+    @Inspecting
+    @Interceptor
+    static class InspectingInterceptor {
+        private final BindingLog log;
+
+        InspectingInterceptor(BindingLog log) {
+            this.log = log;
+        }
+
+        @AroundInvoke
+        Object inspect(InvocationContext ctx) throws Exception {
+            log.bindings.add(ctx.getInterceptorBindings());
+            return ctx.proceed();
+        }
+    }
+
+    @Inspecting
+    @Dependent
+    static class Inspected {
+        void work() {
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.intercept;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InterceptorInstanceAssociationTest {
+
+    @Test
+    void testOnlyBoundInterceptorsAreCreatedPerInstance() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            GradeLog log = container.select(GradeLog.class).get();
+
+            for (int i = 0; i < 3; i++) {
+                container.select(HighBean.class).get();
+            }
+
+            assertEquals(3, log.created("high"));
+            assertEquals(0, log.created("low"));
+            assertTrue(log.invocations.isEmpty());
+        }
+    }
+
+    @Test
+    void testBindingMembersSelectTheInterceptors() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            GradeLog log = container.select(GradeLog.class).get();
+            HighBean high = container.select(HighBean.class).get();
+            LowBean low = container.select(LowBean.class).get();
+
+            high.work();
+            low.work();
+
+            assertEquals(List.of("high", "low"), log.invocations);
+            assertEquals(1, log.created("high"));
+            assertEquals(1, log.created("low"));
+        }
+    }
+
+    @Inherited
+    @InterceptorBinding
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Graded {
+        String value();
+
+        @Nonbinding
+        String note() default "";
+    }
+
+    @Singleton
+    static class GradeLog {
+        final Map<String, AtomicInteger> created = new ConcurrentHashMap<>();
+        final List<String> invocations = new CopyOnWriteArrayList<>();
+
+        void onCreated(String interceptor) {
+            created.computeIfAbsent(interceptor, name -> new AtomicInteger()).incrementAndGet();
+        }
+
+        int created(String interceptor) {
+            AtomicInteger count = created.get(interceptor);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @Graded("high")
+    @Interceptor
+    static class HighInterceptor {
+        private final GradeLog log;
+
+        HighInterceptor(GradeLog log) {
+            this.log = log;
+            log.onCreated("high");
+        }
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            log.invocations.add("high");
+            return ctx.proceed();
+        }
+    }
+
+    @Graded("low")
+    @Interceptor
+    static class LowInterceptor {
+        private final GradeLog log;
+
+        LowInterceptor(GradeLog log) {
+            this.log = log;
+            log.onCreated("low");
+        }
+
+        @AroundInvoke
+        Object intercept(InvocationContext ctx) throws Exception {
+            log.invocations.add("low");
+            return ctx.proceed();
+        }
+    }
+
+    @Graded(value = "high", note = "ignored by the binding")
+    @Dependent
+    static class HighBean {
+        void work() {
+        }
+    }
+
+    @Graded("low")
+    @Dependent
+    static class LowBean {
+        void work() {
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.interceptors.chain;
+
+import io.micronaut.core.io.service.SoftServiceLoader;
+import org.eclipse.odi.cdi.OdiInterceptorChain;
+import org.eclipse.odi.test.junit5.OdiTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@OdiTest
+public class GeneratedInterceptorChainTest {
+
+    @BeforeEach
+    void clearCalls() {
+        Ledger.CALLS.clear();
+    }
+
+    @Test
+    void testChainsAreGeneratedPerOrderedInterceptors() {
+        List<List<String>> interceptorTypes = SoftServiceLoader.load(OdiInterceptorChain.class).collectAll()
+                .stream()
+                .map(chain -> List.of(chain.getInterceptorTypes()))
+                .toList();
+
+        assertTrue(interceptorTypes.contains(List.of(AuditInterceptor.class.getName())));
+        assertTrue(interceptorTypes.contains(List.of(AuditInterceptor.class.getName(), TimingInterceptor.class.getName())));
+    }
+
+    @Test
+    void testGeneratedChainInterceptsInPriorityOrder(Ledger ledger) {
+        assertEquals(51, ledger.post(5));
+        assertEquals(List.of(
+                "audit:GeneratedChainInvocationContext",
+                "timing:GeneratedChainInvocationContext"
+        ), Ledger.CALLS);
+    }
+
+    @Test
+    void testGeneratedChainRethrowsExceptions(Ledger ledger) {
+        IllegalStateException exception = assertThrows(IllegalStateException.class, ledger::reject);
+
+        assertEquals("rejected", exception.getMessage());
+        assertEquals(List.of("audit:GeneratedChainInvocationContext"), Ledger.CALLS);
+    }
+}
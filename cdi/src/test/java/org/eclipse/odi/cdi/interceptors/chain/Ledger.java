@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.interceptors.chain;
+
+import jakarta.enterprise.context.Dependent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Audited
+@Dependent
+public class Ledger {
+    static final List<String> CALLS = new CopyOnWriteArrayList<>();
+
+    @Timed
+    int post(int amount) {
+        return amount + 1;
+    }
+
+    void reject() {
+        throw new IllegalStateException("rejected");
+    }
+}
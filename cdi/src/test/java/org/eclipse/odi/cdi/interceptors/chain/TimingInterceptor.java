@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.interceptors.chain;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+@Timed
+@Interceptor
+@Priority(20)
+class TimingInterceptor {
+
+    @AroundInvoke
+    public Object time(InvocationContext ctx) throws Exception {
+        Ledger.CALLS.add("timing:" + ctx.getClass().getSimpleName());
+        ctx.setParameters(new Object[] {(Integer) ctx.getParameters()[0] * 10});
+        return ctx.proceed();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.interceptors.ontype;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.inject.Singleton;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentAroundInvokeOnTypeTest {
+
+    @Test
+    void testConcurrentInterceptionReusesInterceptorInstance() throws Exception {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            CountedCart cart = container.select(CountedCart.class).get();
+            CountingService service = container.select(CountingService.class).get();
+            cart.placeOrder();
+            int created = service.created.get();
+            int threads = 8;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            cart.placeOrder();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> result : results) {
+                    result.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+            assertTrue(service.invoked.contains("placeOrder"));
+            assertEquals(1 + threads * 100, service.invocations.get());
+            assertEquals(created, service.created.get());
+        }
+    }
+
+    @Test
+    void testClosingAContainerKeepsTheAssociationsOfAnother() {
+        try (SeContainer container = SeContainerInitializer.newInstance().initialize()) {
+            CountedCart cart = container.select(CountedCart.class).get();
+            CountingService service = container.select(CountingService.class).get();
+            cart.placeOrder();
+
+            SeContainer other = SeContainerInitializer.newInstance().initialize();
+            other.select(CountedCart.class).get().placeOrder();
+            other.close();
+            int created = service.created.get();
+
+            // The interceptor instance associated with the cart is still used
+            cart.placeOrder();
+            assertEquals(created, service.created.get());
+        }
+    }
+
+    @Inherited
+    @InterceptorBinding
+    @Target({ElementType.TYPE, ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Counted {
+    }
+
+    @Singleton
+    static class CountingService {
+        final Set<String> invoked = ConcurrentHashMap.newKeySet();
+        final AtomicInteger invocations = new AtomicInteger();
+        final AtomicInteger created = new AtomicInteger();
+    }
+
+    @Counted
+    @Interceptor
+    static class CountingInterceptor {
+        private final CountingService countingService;
+
+        CountingInterceptor(CountingService countingService) {
+            this.countingService = countingService;
+            countingService.created.incrementAndGet();
+        }
+
+        @AroundInvoke
+        Object count(InvocationContext ctx) throws Exception {
+            countingService.invoked.add(ctx.getMethod().getName());
+            countingService.invocations.incrementAndGet();
+            return ctx.proceed();
+        }
+    }
+
+    @Counted
+    static class CountedCart {
+        void placeOrder() {
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi;
+
+import io.micronaut.core.annotation.Internal;
+import jakarta.interceptor.InvocationContext;
+
+/**
+ * An around-invoke interceptor chain generated at build time for one ordered list of interceptors. The
+ * {@link jakarta.interceptor.AroundInvoke} methods are called directly instead of through executable methods.
+ *
+ * <p>Implementations are registered as services and picked up by the interceptor registry when the interceptors
+ * resolved for an intercepted method are exactly {@link #getInterceptorTypes()}, in the same order.</p>
+ */
+@Internal
+public interface OdiInterceptorChain {
+
+    /**
+     * @return The interceptor class names, in the chain order
+     */
+    String[] getInterceptorTypes();
+
+    /**
+     * Invokes the around-invoke method of the interceptor at the index of the chain.
+     *
+     * @param index       The index of the interceptor in the chain
+     * @param interceptor The interceptor instance
+     * @param context     The invocation context
+     * @return The result of the around-invoke method
+     * @throws Exception If the around-invoke method fails
+     */
+    Object invoke(int index, Object interceptor, InvocationContext context) throws Exception;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation that can be added to an asynchronous observer method to notify it in a named lane.
+ *
+ * <p>Each lane is notified on its own executor with its own concurrency limit, configured with the
+ * {@code odi.events.async.lanes.<name>.executor}, {@code odi.events.async.lanes.<name>.virtual-threads}
+ * and {@code odi.events.async.lanes.<name>.max-concurrency} properties. A lane without configuration is
+ * notified on the default asynchronous executor.</p>
+ *
+ * <p>The annotation is ignored if the event is fired with an explicit executor in
+ * {@link jakarta.enterprise.event.NotificationOptions}.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface AsyncObserverLane {
+
+    /**
+     * @return The name of the lane
+     */
+    String value();
+
+}
@@ -73,4 +73,9 @@ public @interface ObservesMethod {
      */
     TransactionPhase during() default TransactionPhase.IN_PROGRESS;
 
+    /**
+     * @return The lane of the async observer method or empty for the default lane
+     */
+    String lane() default "";
+
 }
@@ -37,6 +37,7 @@ public final class AnnotationUtil {
     public static final String ANN_ODI_UNPROXYABLE_BEAN = "org.eclipse.odi.cdi.annotation.OdiUnproxyableBean";
     public static final String ANN_NAMED_BY_STEREOTYPE = "org.eclipse.odi.cdi.annotation.NamedByStereotype";
     public static final String ANN_OBSERVES_METHOD = "org.eclipse.odi.cdi.annotation.ObservesMethod";
+    public static final String ANN_ASYNC_OBSERVER_LANE = "org.eclipse.odi.cdi.annotation.AsyncObserverLane";
     private static final String ANN_DECORATOR = "jakarta.decorator.Decorator";
 
     private AnnotationUtil() {
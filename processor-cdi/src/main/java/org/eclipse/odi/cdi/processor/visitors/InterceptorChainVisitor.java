@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.odi.cdi.processor.visitors;
+
+import io.micronaut.context.annotation.Executable;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Generated;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.Element;
+import io.micronaut.inject.ast.ElementQuery;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.visitor.VisitorContext;
+import io.micronaut.inject.writer.GeneratedFile;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.odi.cdi.OdiInterceptorChain;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates an {@link OdiInterceptorChain} for each distinct ordered list of interceptors bound to the intercepted
+ * methods of the compilation. The generated chain calls the {@link AroundInvoke} methods directly.
+ *
+ * <p>Only interceptors of the same compilation with a single accessible {@link AroundInvoke} method declared by the
+ * interceptor class, throwing no more than {@link Exception}, take part; any other interception keeps going through
+ * the interceptor adapters. Bindings are matched by their binding members, like at runtime.</p>
+ *
+ * <p>The generated class name includes the hash of the first intercepted class of the chain, so that the compilations
+ * of different modules intercepted by the same interceptors never generate the same class.</p>
+ */
+public class InterceptorChainVisitor implements TypeElementVisitor<Object, Object> {
+
+    private static final String CHAIN_CLASS_PREFIX = "$OdiInterceptorChain$";
+    private static final Comparator<ChainInterceptor> CHAIN_ORDER = Comparator
+            .comparingInt(ChainInterceptor::priority)
+            .thenComparing(ChainInterceptor::name);
+
+    private final Map<String, ChainInterceptor> interceptors = new LinkedHashMap<>();
+    // Binding sets by the first intercepted class declaring them
+    private final Map<Set<AnnotationValue<?>>, String> bindingSets = new LinkedHashMap<>();
+    private ClassElement interceptedClass;
+    private Set<AnnotationValue<?>> classBindings = Set.of();
+
+    @Override
+    public void visitClass(ClassElement element, VisitorContext context) {
+        interceptedClass = null;
+        if (element.hasStereotype(Interceptor.class)) {
+            if (!element.isAbstract()) {
+                addInterceptor(element, context);
+            }
+        } else if (!element.hasStereotype(InterceptorBinding.class)) {
+            interceptedClass = element;
+            classBindings = bindingValues(element, context);
+            if (!classBindings.isEmpty()) {
+                bindingSets.putIfAbsent(classBindings, element.getName());
+            }
+        }
+    }
+
+    @Override
+    public void visitMethod(MethodElement element, VisitorContext context) {
+        if (interceptedClass == null) {
+            return;
+        }
+        Set<AnnotationValue<?>> methodBindings = bindingValues(element, context);
+        if (!methodBindings.isEmpty()) {
+            Set<AnnotationValue<?>> bindings = new HashSet<>(classBindings);
+            bindings.addAll(methodBindings);
+            bindingSets.putIfAbsent(Set.copyOf(bindings), interceptedClass.getName());
+        }
+    }
+
+    @Override
+    public void finish(VisitorContext context) {
+        // Chains by the first intercepted class they were resolved for
+        Map<List<ChainInterceptor>, String> chains = new LinkedHashMap<>();
+        bindingSets.forEach((bindings, interceptedClassName) -> {
+            List<ChainInterceptor> chain = new ArrayList<>();
+            for (ChainInterceptor interceptor : interceptors.values()) {
+                if (bindings.containsAll(interceptor.bindings())) {
+                    chain.add(interceptor);
+                }
+            }
+            if (!chain.isEmpty()) {
+                chain.sort(CHAIN_ORDER);
+                chains.putIfAbsent(List.copyOf(chain), interceptedClassName);
+            }
+        });
+        Set<String> chainClassNames = new HashSet<>();
+        chains.forEach((chain, interceptedClassName) -> {
+            String packageName = chain.get(0).element().getPackageName();
+            if (chain.stream().allMatch(interceptor -> interceptor.isAccessibleFrom(packageName))) {
+                writeChain(context, packageName, chain, interceptedClassName, chainClassNames);
+            }
+        });
+        interceptors.clear();
+        bindingSets.clear();
+    }
+
+    private void addInterceptor(ClassElement element, VisitorContext context) {
+        Set<AnnotationValue<?>> bindings = bindingValues(element, context);
+        List<MethodElement> aroundInvokeMethods = element.getEnclosedElements(
+                ElementQuery.ALL_METHODS.annotated(ann -> ann.hasDeclaredAnnotation(AroundInvoke.class)
+                        || AroundInvoke.class.equals(ann.classValue(Executable.class).orElse(null)))
+        );
+        if (bindings.isEmpty() || aroundInvokeMethods.size() != 1) {
+            return;
+        }
+        MethodElement aroundInvoke = aroundInvokeMethods.get(0);
+        ParameterElement[] parameters = aroundInvoke.getParameters();
+        if (!aroundInvoke.getDeclaringType().getName().equals(element.getName())
+                || aroundInvoke.isStatic()
+                || aroundInvoke.isPrivate()
+                || aroundInvoke.getReturnType().isVoid()
+                || parameters.length != 1
+                || !parameters[0].getType().getName().equals(InvocationContext.class.getName())
+                || throwsMoreThanException(aroundInvoke)) {
+            return;
+        }
+        interceptors.put(element.getName(), new ChainInterceptor(
+                element,
+                element.getName(),
+                element.intValue(Priority.class).orElse(0),
+                bindings,
+                aroundInvoke.getName(),
+                aroundInvoke.isPublic()
+        ));
+    }
+
+    /**
+     * The generated chain declares {@code throws Exception}, so it cannot call a method throwing {@link Throwable}.
+     *
+     * @param aroundInvoke The around-invoke method
+     * @return true if the method declares a checked throwable that is not an exception
+     */
+    private static boolean throwsMoreThanException(MethodElement aroundInvoke) {
+        for (ClassElement thrownType : aroundInvoke.getThrownTypes()) {
+            if (!thrownType.isAssignable(Exception.class) && !thrownType.isAssignable(Error.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the interceptor bindings of an element with their binding members, the non-binding members removed.
+     *
+     * @param element The element
+     * @param context The visitor context
+     * @return The interceptor bindings
+     */
+    private static Set<AnnotationValue<?>> bindingValues(Element element, VisitorContext context) {
+        Set<AnnotationValue<?>> bindings = new HashSet<>();
+        for (String bindingName : element.getAnnotationNamesByStereotype(InterceptorBinding.class)) {
+            AnnotationValue<?> annotationValue = element.getAnnotation(bindingName);
+            if (annotationValue == null) {
+                bindings.add(AnnotationValue.builder(bindingName).build());
+                continue;
+            }
+            Map<CharSequence, Object> values = new LinkedHashMap<>(annotationValue.getValues());
+            values.remove(AnnotationUtil.NON_BINDING_ATTRIBUTE);
+            for (String nonBinding : annotationValue.stringValues(AnnotationUtil.NON_BINDING_ATTRIBUTE)) {
+                values.remove(nonBinding);
+            }
+            context.getClassElement(bindingName).ifPresent(annotation ->
+                    annotation.getEnclosedElements(ElementQuery.ALL_METHODS.onlyDeclared())
+                            .stream()
+                            .filter(member -> member.hasAnnotation(Nonbinding.class))
+                            .forEach(member -> values.remove(member.getName()))
+            );
+            bindings.add(AnnotationValue.builder(bindingName).members(values).build());
+        }
+        return Set.copyOf(bindings);
+    }
+
+    private void writeChain(VisitorContext context,
+                            String packageName,
+                            List<ChainInterceptor> chain,
+                            String interceptedClassName,
+                            Set<String> chainClassNames) {
+        String simpleName = CHAIN_CLASS_PREFIX
+                + Integer.toHexString(chain.stream().map(ChainInterceptor::name).toList().hashCode())
+                + '$' + Integer.toHexString(interceptedClassName.hashCode());
+        while (!chainClassNames.add(qualifiedName(packageName, simpleName))) {
+            simpleName += '_';
+        }
+        ClassElement[] originatingElements = chain.stream().map(ChainInterceptor::element).toArray(ClassElement[]::new);
+        GeneratedFile generatedFile = context.visitGeneratedSourceFile(packageName, simpleName, originatingElements).orElse(null);
+        if (generatedFile == null) {
+            return;
+        }
+        try (Writer writer = generatedFile.openWriter()) {
+            writer.write(chainSource(packageName, simpleName, chain));
+        } catch (IOException e) {
+            context.fail("Failed to generate the interceptor chain " + simpleName + ": " + e.getMessage(), originatingElements[0]);
+            return;
+        }
+        context.visitServiceDescriptor(OdiInterceptorChain.class.getName(), qualifiedName(packageName, simpleName), originatingElements[0]);
+    }
+
+    private static String qualifiedName(String packageName, String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+    }
+
+    private static String chainSource(String packageName, String simpleName, List<ChainInterceptor> chain) {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append('@').append(Generated.class.getName()).append('\n')
+                .append("public final class ").append(simpleName)
+                .append(" implements ").append(OdiInterceptorChain.class.getName()).append(" {\n\n")
+                .append("    @Override\n")
+                .append("    public String[] getInterceptorTypes() {\n")
+                .append("        return new String[] {");
+        for (int i = 0; i < chain.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append('"').append(chain.get(i).name()).append('"');
+        }
+        source.append("};\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Object invoke(int index, Object interceptor, ")
+                .append(InvocationContext.class.getName()).append(" context) throws Exception {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < chain.size(); i++) {
+            ChainInterceptor interceptor = chain.get(i);
+            source.append("            case ").append(i).append(":\n")
+                    .append("                return ((").append(interceptor.element().getCanonicalName()).append(") interceptor).")
+                    .append(interceptor.methodName()).append("(context);\n");
+        }
+        source.append("            default:\n")
+                .append("                throw new IndexOutOfBoundsException(index);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    @Override
+    public VisitorKind getVisitorKind() {
+        return VisitorKind.AGGREGATING;
+    }
+
+    /**
+     * An interceptor that can take part in a generated chain.
+     *
+     * @param element      The interceptor class
+     * @param name         The interceptor class name
+     * @param priority     The interceptor priority
+     * @param bindings     The interceptor bindings with their binding members
+     * @param methodName   The name of the around-invoke method
+     * @param publicMethod Whether the around-invoke method is public
+     */
+    private record ChainInterceptor(ClassElement element,
+                                    String name,
+                                    int priority,
+                                    Set<AnnotationValue<?>> bindings,
+                                    String methodName,
+                                    boolean publicMethod) {
+
+        boolean isAccessibleFrom(String packageName) {
+            if (element.getPackageName().equals(packageName)) {
+                return !element.isPrivate();
+            }
+            return element.isPublic() && !element.isInner() && publicMethod;
+        }
+    }
+}
@@ -59,6 +59,8 @@ public class ObservesAsyncMethodVisitor extends ParameterAnnotationInjectableMet
             observesAnnotation.enumValue("notifyObserver", Reception.class)
                     .ifPresent(reception -> annotationValueBuilder.member("notifyObserver", reception));
             parameterElement.intValue(Priority.class).ifPresent(priority -> annotationValueBuilder.member("priority", priority));
+            methodElement.stringValue(AnnotationUtil.ANN_ASYNC_OBSERVER_LANE)
+                    .ifPresent(lane -> annotationValueBuilder.member("lane", lane));
         });
     }
 
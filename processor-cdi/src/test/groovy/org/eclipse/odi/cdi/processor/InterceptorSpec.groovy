@@ -20,7 +20,9 @@ import org.eclipse.odi.cdi.intercept.JakartaInterceptorAdapter
 import io.micronaut.annotation.processing.test.AbstractTypeElementSpec
 import io.micronaut.aop.Intercepted
 import io.micronaut.aop.Around
+import io.micronaut.core.io.service.SoftServiceLoader
 import io.micronaut.core.type.Argument
+import org.eclipse.odi.cdi.OdiInterceptorChain
 import org.eclipse.odi.cdi.annotation.DisposerMethod
 
 class InterceptorSpec extends AbstractTypeElementSpec {
@@ -71,6 +73,64 @@ class MonitoringInterceptor {
         bean.@$interceptors[0][0].aroundInvoke.name == 'monitorInvocation'
     }
 
+    void 'test around invoke chain is generated per ordered interceptors'() {
+        given:
+        def context = buildContext('''
+package chaintest;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.*;
+import jakarta.inject.Singleton;
+import java.lang.annotation.*;
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+@Singleton
+@Logged
+class Test {
+    @Monitored
+    public void test() {}
+
+    public void other() {}
+}
+
+@Monitored @Interceptor @Priority(1)
+class MonitoringInterceptor {
+    @AroundInvoke
+    public Object monitorInvocation(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+}
+
+@Logged @Interceptor @Priority(2)
+class LoggingInterceptor {
+    @AroundInvoke
+    Object log(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+}
+
+@Inherited
+@InterceptorBinding
+@Target({TYPE, METHOD})
+@Retention(RUNTIME)
+@interface Monitored {}
+
+@Inherited
+@InterceptorBinding
+@Target({TYPE, METHOD})
+@Retention(RUNTIME)
+@interface Logged {}
+''')
+        when:
+        def chains = SoftServiceLoader.load(OdiInterceptorChain, context.classLoader).collectAll()
+                .collect { it.interceptorTypes.toList() }
+
+        then:
+        chains.contains(['chaintest.LoggingInterceptor'])
+        chains.contains(['chaintest.MonitoringInterceptor', 'chaintest.LoggingInterceptor'])
+    }
+
     void 'test fail compilation for intercepted bean without bean constructor'() {
         when:
         buildContext('''